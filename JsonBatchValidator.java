@@ -0,0 +1,119 @@
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntPredicate;
+import java.util.function.IntToLongFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * @describe 批量校验大量文档，按文档总大小切成若干任务并行执行，结果放在 {@link BitSet} 里，
+ * 第i位为1表示第i篇文档合法。实例不可变，可以在多个线程间共享
+ * <p>
+ * 相邻的小文档合并到同一个任务里，每个任务至少 {@value #MIN_TASK_BYTES} 字节，避免调度开销超过校验本身；
+ * 任务按64篇对齐，各自只写结果里属于自己的long，不需要同步
+ */
+public final class JsonBatchValidator {
+    /**
+     * 每个任务至少校验的字节数
+     */
+    private static final long MIN_TASK_BYTES = 64 << 10;
+    /**
+     * 每个线程分到的任务数，文档大小不均时靠它均衡负载
+     */
+    private static final int TASKS_PER_THREAD = 4;
+    /**
+     * 每篇文档按多少字节计入任务大小，体现每次调用的固定开销，空文档也不至于全挤在一个任务里
+     */
+    private static final int DOC_OVERHEAD = 32;
+
+    private final JsonValidator validator;
+    private final Executor executor;
+    private final int parallelism;
+
+    /**
+     * 使用默认配置的 {@link JsonValidator}，在 {@link ForkJoinPool#commonPool()} 上执行
+     */
+    public JsonBatchValidator() {
+        this(new JsonValidator(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param validator 校验每篇文档所用的校验器
+     * @param executor  执行任务的线程池，调用线程也会执行最后一个任务
+     */
+    public JsonBatchValidator(JsonValidator validator, Executor executor) {
+        this.validator = Objects.requireNonNull(validator);
+        this.executor = Objects.requireNonNull(executor);
+        this.parallelism = JsonTasks.parallelism(executor);
+    }
+
+    public BitSet validate(List<String> docs) {
+        List<String> list = docs instanceof RandomAccess ? docs : new ArrayList<>(docs);
+        return run(list.size(), i -> list.get(i).length(), i -> validator.validate(list.get(i)));
+    }
+
+    public BitSet validate(Stream<String> docs) {
+        return validate(docs.collect(Collectors.toList()));
+    }
+
+    /**
+     * @param docs 每个元素是一篇UTF-8编码的文档
+     */
+    public BitSet validate(byte[][] docs) {
+        return run(docs.length, i -> docs[i].length, i -> validator.validate(docs[i], 0, docs[i].length));
+    }
+
+    /**
+     * 校验共用一个缓冲区的多篇文档，第i篇是 buf[offsets[i], offsets[i + 1])
+     *
+     * @param buf     UTF-8编码的字节
+     * @param offsets 各篇文档的起点，最后一个元素是最后一篇的终点，文档数为 offsets.length - 1
+     */
+    public BitSet validate(byte[] buf, int[] offsets) {
+        int n = Math.max(offsets.length - 1, 0);
+        return run(n, i -> offsets[i + 1] - offsets[i],
+                i -> validator.validate(buf, offsets[i], offsets[i + 1] - offsets[i]));
+    }
+
+    private BitSet run(int n, IntToLongFunction size, IntPredicate check) {
+        long[] words = new long[(n + 63) >>> 6];
+        long total = 0;
+        for (int i = 0; i < n; i++) {
+            total += size.applyAsLong(i) + DOC_OVERHEAD;
+        }
+        long target = Math.max(MIN_TASK_BYTES, total / ((long) parallelism * TASKS_PER_THREAD));
+
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+        int from = 0;
+        long bytes = 0;
+        for (int i = 0; i < n; i++) {
+            bytes += size.applyAsLong(i) + DOC_OVERHEAD;
+            if (bytes >= target && (i + 1 & 63) == 0 && i + 1 < n) {
+                int start = from, end = i + 1;
+                tasks.add(CompletableFuture.runAsync(() -> check(start, end, check, words), executor));
+                from = end;
+                bytes = 0;
+            }
+        }
+        check(from, n, check, words);
+        try {
+            CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException e) {
+            throw JsonTasks.unwrap(e);
+        }
+        return BitSet.valueOf(words);
+    }
+
+    private static void check(int from, int to, IntPredicate check, long[] words) {
+        for (int i = from; i < to; i++) {
+            if (check.test(i)) words[i >>> 6] |= 1L << i;
+        }
+    }
+}
@@ -0,0 +1,212 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.security.SecureRandom;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @describe 在 {@link JsonValidator} 前面缓存最近的校验结果，适合大量完全相同的请求体反复出现的场景（重试、心跳、配置）。
+ * 先对输入算一个64位的 XXH64 散列，再查一张直接映射的表，散列值和长度都相同就直接返回上次的结果，只花算散列的时间。
+ * 表的大小固定，同一槽位后来的覆盖先来的；不加锁，表项不可变，多个线程并发读写只会多算几次，不会读到错的结果。线程安全
+ * <p>
+ * 散列的种子在构造时随机生成，外部无法离线构造出与某个合法输入碰撞的非法输入；
+ * 即便如此，内容不同而64位散列值和长度都相同的概率仍不是零，不能接受这一点时直接用 JsonValidator。
+ * 超过 {@value #MAX_CACHED_CHARS} 个字符的String不经过缓存
+ * 用 {@link #hits()}、{@link #misses()} 和 {@link #hitRate()} 判断缓存是否值得开启
+ */
+public final class JsonCachingValidator {
+    private static final long P1 = 0x9E3779B185EBCA87L;
+    private static final long P2 = 0xC2B2AE3D27D4EB4FL;
+    private static final long P3 = 0x165667B19E3779F9L;
+    private static final long P4 = 0x85EBCA77C2B2AE63L;
+    private static final long P5 = 0x27D4EB2F165667C5L;
+    /**
+     * 更长的String按UTF-16LE算出的字节数超出int范围，直接校验
+     */
+    private static final int MAX_CACHED_CHARS = Integer.MAX_VALUE >> 1;
+    private static final VarHandle LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INT = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final JsonValidator validator;
+    /**
+     * 每个实例随机的种子；String 按UTF-16LE字节算散列，用另一个种子，和字节输入不共用表项
+     */
+    private final long seed;
+    private final long stringSeed;
+    private final Entry[] table;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param validator 未命中时实际校验用的校验器
+     * @param capacity  最多缓存的结果数，向上取到2的幂
+     */
+    public JsonCachingValidator(JsonValidator validator, int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) throw new IllegalArgumentException("capacity: " + capacity);
+        this.validator = Objects.requireNonNull(validator);
+        this.table = new Entry[Integer.highestOneBit(capacity * 2 - 1)];
+        SecureRandom random = new SecureRandom();
+        this.seed = random.nextLong();
+        this.stringSeed = random.nextLong();
+    }
+
+    public boolean validate(String input) {
+        if (input.length() > MAX_CACHED_CHARS) return validator.validate(input);
+        int len = input.length() << 1;
+        long hash = hash(input, 0, len, stringSeed);
+        Entry e = lookup(hash, len);
+        return e != null ? e.valid : store(hash, len, validator.validate(input));
+    }
+
+    public boolean validate(byte[] buf, int off, int len) {
+        Objects.checkFromIndexSize(off, len, buf.length);
+        long hash = hash(buf, off, len, seed);
+        Entry e = lookup(hash, len);
+        return e != null ? e.valid : store(hash, len, validator.validate(buf, off, len));
+    }
+
+    /**
+     * 校验 position 到 limit 之间的字节，不会改变buffer的position
+     */
+    public boolean validate(ByteBuffer buf) {
+        if (buf.hasArray()) {
+            return validate(buf.array(), buf.arrayOffset() + buf.position(), buf.remaining());
+        }
+        int len = buf.remaining();
+        long hash = hash(buf, buf.position(), len, seed);
+        Entry e = lookup(hash, len);
+        return e != null ? e.valid : store(hash, len, validator.validate(buf));
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return 命中次数占全部调用的比例，还没有调用过时为0
+     */
+    public double hitRate() {
+        long h = hits.sum(), total = h + misses.sum();
+        return total == 0 ? 0 : (double) h / total;
+    }
+
+    private Entry lookup(long hash, int len) {
+        Entry e = table[(int) hash & table.length - 1];
+        if (e != null && e.hash == hash && e.length == len) {
+            hits.increment();
+            return e;
+        }
+        misses.increment();
+        return null;
+    }
+
+    private boolean store(long hash, int len, boolean valid) {
+        table[(int) hash & table.length - 1] = new Entry(hash, len, valid);
+        return valid;
+    }
+
+    /**
+     * 缓存的一个结果。字段都是final，其他线程不加同步读到的也是完整的表项
+     */
+    private static final class Entry {
+        final long hash;
+        final int length;
+        final boolean valid;
+
+        Entry(long hash, int length, boolean valid) {
+            this.hash = hash;
+            this.length = length;
+            this.valid = valid;
+        }
+    }
+
+    /**
+     * XXH64，in 从下标 off 开始的 len 个字节；String 按UTF-16LE编码看成字节，下标和长度都按字节计
+     */
+    static long hash(Object in, int off, int len, long seed) {
+        int p = off, end = off + len;
+        long h;
+        if (len >= 32) {
+            long v1 = seed + P1 + P2, v2 = seed + P2, v3 = seed, v4 = seed - P1;
+            for (int limit = end - 32; p <= limit; p += 32) {
+                v1 = round(v1, lane(in, p));
+                v2 = round(v2, lane(in, p + 8));
+                v3 = round(v3, lane(in, p + 16));
+                v4 = round(v4, lane(in, p + 24));
+            }
+            h = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7) + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+            h = merge(h, v1);
+            h = merge(h, v2);
+            h = merge(h, v3);
+            h = merge(h, v4);
+        } else {
+            h = seed + P5;
+        }
+        h += len;
+        for (; p <= end - 8; p += 8) {
+            h ^= round(0, lane(in, p));
+            h = Long.rotateLeft(h, 27) * P1 + P4;
+        }
+        if (p <= end - 4) {
+            h ^= (lane4(in, p) & 0xFFFFFFFFL) * P1;
+            h = Long.rotateLeft(h, 23) * P2 + P3;
+            p += 4;
+        }
+        for (; p < end; p++) {
+            h ^= byteAt(in, p) * P5;
+            h = Long.rotateLeft(h, 11) * P1;
+        }
+        h ^= h >>> 33;
+        h *= P2;
+        h ^= h >>> 29;
+        h *= P3;
+        return h ^ h >>> 32;
+    }
+
+    private static long round(long acc, long input) {
+        return Long.rotateLeft(acc + input * P2, 31) * P1;
+    }
+
+    private static long merge(long acc, long v) {
+        return (acc ^ round(0, v)) * P1 + P4;
+    }
+
+    /**
+     * 下标i开始的8个字节，按小端序
+     */
+    private static long lane(Object in, int i) {
+        if (in instanceof byte[]) return (long) LONG.get((byte[]) in, i);
+        if (in instanceof ByteBuffer) {
+            ByteBuffer buf = (ByteBuffer) in;
+            long v = buf.getLong(i);
+            return buf.order() == ByteOrder.LITTLE_ENDIAN ? v : Long.reverseBytes(v);
+        }
+        String s = (String) in;
+        int c = i >> 1;
+        return s.charAt(c) | (long) s.charAt(c + 1) << 16 | (long) s.charAt(c + 2) << 32 | (long) s.charAt(c + 3) << 48;
+    }
+
+    private static int lane4(Object in, int i) {
+        if (in instanceof byte[]) return (int) INT.get((byte[]) in, i);
+        if (in instanceof ByteBuffer) {
+            ByteBuffer buf = (ByteBuffer) in;
+            int v = buf.getInt(i);
+            return buf.order() == ByteOrder.LITTLE_ENDIAN ? v : Integer.reverseBytes(v);
+        }
+        String s = (String) in;
+        return s.charAt(i >> 1) | s.charAt((i >> 1) + 1) << 16;
+    }
+
+    private static int byteAt(Object in, int i) {
+        if (in instanceof byte[]) return ((byte[]) in)[i] & 0xFF;
+        if (in instanceof ByteBuffer) return ((ByteBuffer) in).get(i) & 0xFF;
+        char c = ((String) in).charAt(i >> 1);
+        return (i & 1) == 0 ? c & 0xFF : c >>> 8;
+    }
+}
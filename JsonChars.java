@@ -0,0 +1,82 @@
+import java.util.Arrays;
+
+/**
+ * @describe 按 RFC 8259 给0~255的字符分类，各个校验器查表判断，不走 Character 的Unicode属性查询。
+ * 超出0~255的值（String 输入里的非Latin-1字符、越界时的-1）不属于任何一类
+ */
+final class JsonChars {
+    /**
+     * 空格、\t、\n、\r，其他Unicode空白都不是JSON空白
+     */
+    static final int WHITESPACE = 1;
+    /**
+     * 只有ASCII的0~9
+     */
+    static final int DIGIT = 1 << 1;
+    static final int HEX = 1 << 2;
+    /**
+     * 反斜杠之后允许的字符，包括开始Unicode转义的 u
+     */
+    static final int ESCAPE = 1 << 3;
+    /**
+     * 数字里可能出现的字符
+     */
+    static final int NUMBER = 1 << 4;
+
+    private static final byte[] CLASSES = new byte[256];
+    /**
+     * 十六进制字符的值，其他字符为-1
+     */
+    private static final byte[] HEX_VALUES = new byte[256];
+
+    static {
+        mark(" \t\n\r", WHITESPACE);
+        mark("0123456789", DIGIT | HEX | NUMBER);
+        mark("abcdefABCDEF", HEX);
+        mark(".eE+-", NUMBER);
+        mark("\\\"/bfnrtu", ESCAPE);
+        Arrays.fill(HEX_VALUES, (byte) -1);
+        for (int k = 0; k < 16; k++) {
+            HEX_VALUES["0123456789abcdef".charAt(k)] = (byte) k;
+            HEX_VALUES["0123456789ABCDEF".charAt(k)] = (byte) k;
+        }
+    }
+
+    private JsonChars() {
+    }
+
+    private static void mark(String chars, int cls) {
+        for (int k = 0; k < chars.length(); k++) CLASSES[chars.charAt(k)] |= cls;
+    }
+
+    static boolean is(int c, int cls) {
+        return (c & ~0xFF) == 0 && (CLASSES[c] & cls) != 0;
+    }
+
+    static boolean isWhitespace(int c) {
+        return is(c, WHITESPACE);
+    }
+
+    static boolean isDigit(int c) {
+        return is(c, DIGIT);
+    }
+
+    static boolean isHex(int c) {
+        return is(c, HEX);
+    }
+
+    /**
+     * 十六进制字符的值，不是十六进制字符时返回-1
+     */
+    static int hex(int c) {
+        return (c & ~0xFF) == 0 ? HEX_VALUES[c] : -1;
+    }
+
+    /**
+     * 把Unicode转义 u 之后的四个十六进制字符一次拼成一个UTF-16码元。任一字符非法时它的-1左移后仍是负数，
+     * 或起来整个结果为负，所以只需判断一次
+     */
+    static int hex4(int a, int b, int c, int d) {
+        return hex(a) << 12 | hex(b) << 8 | hex(c) << 4 | hex(d);
+    }
+}
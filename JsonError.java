@@ -0,0 +1,105 @@
+/**
+ * @describe 校验失败的位置和原因，由 {@link JsonValidator#diagnose} 返回，只在失败时才会创建
+ */
+public final class JsonError {
+    /**
+     * 出错位置期望的内容
+     */
+    public enum Kind {
+        VALUE("value"),
+        KEY("object key"),
+        COLON("':'"),
+        COMMA_OR_OBJECT_END("',' or '}'"),
+        COMMA_OR_ARRAY_END("',' or ']'"),
+        END("end of input"),
+        LITERAL("true, false or null"),
+        NUMBER("number"),
+        CLOSING_QUOTE("closing quote"),
+        CONTROL_CHARACTER("control character escaped inside the string"),
+        ESCAPE("escape sequence \\\" \\\\ \\/ \\b \\f \\n \\r \\t or \\uXXXX"),
+        UNICODE_ESCAPE("four hex digits after \\u"),
+        SURROGATE("high surrogate escape followed by a low surrogate escape"),
+        UTF8("well-formed UTF-8 sequence"),
+        DEPTH("nesting depth within the limit"),
+        DOCUMENT_SIZE("document size within the limit"),
+        STRING_LENGTH("string length within the limit"),
+        NUMBER_LENGTH("number length within the limit"),
+        NUMBER_INTEGER("integer without fraction or exponent"),
+        NUMBER_RANGE("integer within the 64-bit signed range"),
+        NUMBER_PRECISION("number exactly representable as a double"),
+        NUMBER_DIGITS("number digit count within the limit"),
+        NUMBER_EXPONENT("number exponent within the limit"),
+        MEMBERS("object member count within the limit"),
+        DUPLICATE_KEY("key not already present in the object"),
+        SCHEMA_TYPE("value of a type the schema allows"),
+        SCHEMA_ENUM("one of the values the schema enumerates"),
+        SCHEMA_RANGE("number within the schema's bounds"),
+        SCHEMA_LENGTH("string length within the schema's bounds"),
+        SCHEMA_PATTERN("string matching the schema's pattern"),
+        SCHEMA_PROPERTIES("property count within the schema's bounds"),
+        SCHEMA_REQUIRED("all properties the schema requires"),
+        SCHEMA_ITEMS("item count within the schema's bounds");
+
+        private final String description;
+
+        Kind(String description) {
+            this.description = description;
+        }
+
+        public String description() {
+            return description;
+        }
+    }
+
+    private final Kind expected;
+    private final int offset;
+    private final int line;
+    private final int column;
+    private final String snippet;
+
+    JsonError(Kind expected, int offset, int line, int column, String snippet) {
+        this.expected = expected;
+        this.offset = offset;
+        this.line = line;
+        this.column = column;
+        this.snippet = snippet;
+    }
+
+    public Kind expected() {
+        return expected;
+    }
+
+    /**
+     * 相对输入起点的偏移，字符串输入按字符计，字节输入按字节计
+     */
+    public int offset() {
+        return offset;
+    }
+
+    /**
+     * 行号，从1开始，以 '\n' 分行
+     */
+    public int line() {
+        return line;
+    }
+
+    /**
+     * 列号，从1开始，按字符计，字节输入按UTF-8字符计
+     */
+    public int column() {
+        return column;
+    }
+
+    /**
+     * 出错位置前后的一小段原文
+     */
+    public String snippet() {
+        return snippet;
+    }
+
+    @Override
+    public String toString() {
+        return "expected " + expected.description() + " at line " + line + ", column " + column
+                + " (offset " + offset + "): " + snippet;
+    }
+}
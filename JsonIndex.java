@@ -0,0 +1,214 @@
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * @describe 校验时顺带生成的结构索引（tape），由 {@link JsonValidator#index(String)} 等方法返回。
+ * 每个记号占一个long：高4位是类型，中间30位是记号在输入里相对起点的偏移，低30位随类型而定——
+ * 对象和数组的开始记号存放配对的结束记号的下标，结束记号存放直接成员数，键和标量存放原文的长度。
+ * 记号按在输入里出现的顺序排列，对象里每个键后面紧跟它的值。
+ * 下游据此可以直接跳到某个字段（{@link #field}）、跳过整棵子树（{@link #next}），不必再扫描一遍输入
+ * <p>
+ * 只持有输入的引用，不复制内容，使用期间输入不能被修改。偏移和长度对String按字符计，对字节输入按字节计。
+ * 输入最长 {@value #MAX_INPUT} 个字符或字节。不可变，线程安全
+ */
+public final class JsonIndex {
+    public static final int OBJECT = 1;
+    public static final int ARRAY = 2;
+    public static final int END_OBJECT = 3;
+    public static final int END_ARRAY = 4;
+    public static final int KEY = 5;
+    public static final int STRING = 6;
+    public static final int NUMBER = 7;
+    public static final int TRUE = 8;
+    public static final int FALSE = 9;
+    public static final int NULL = 10;
+
+    /**
+     * 偏移、长度和下标各占30位
+     */
+    static final int MAX_INPUT = (1 << 30) - 1;
+    private static final int BITS = 30;
+
+    /**
+     * String、byte[] 或 ByteBuffer
+     */
+    private final Object in;
+    private final int base;
+    private final int end;
+    private final long[] tape;
+    private final int size;
+
+    private JsonIndex(Object in, int base, int end, long[] tape, int size) {
+        this.in = in;
+        this.base = base;
+        this.end = end;
+        this.tape = tape;
+        this.size = size;
+    }
+
+    /**
+     * @return 记号个数，只有空白的输入为0，否则下标0就是顶层的值
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return 按上面的格式编码的全部记号，每次调用返回一份副本
+     */
+    public long[] tape() {
+        return Arrays.copyOf(tape, size);
+    }
+
+    public int kind(int index) {
+        return (int) (entry(index) >>> 2 * BITS);
+    }
+
+    /**
+     * @return 记号第一个字符相对输入起点的偏移
+     */
+    public int offset(int index) {
+        return (int) (entry(index) >>> BITS) & MAX_INPUT;
+    }
+
+    /**
+     * @return 键和标量的原文长度，字符串含引号；对象和数组从开始符到结束符的长度；结束记号为1
+     */
+    public int length(int index) {
+        long e = entry(index);
+        switch ((int) (e >>> 2 * BITS)) {
+            case OBJECT:
+            case ARRAY:
+                return offset(close(index)) + 1 - offset(index);
+            case END_OBJECT:
+            case END_ARRAY:
+                return 1;
+            default:
+                return (int) e & MAX_INPUT;
+        }
+    }
+
+    /**
+     * @param index 对象或数组的开始记号
+     * @return 配对的结束记号的下标
+     */
+    public int close(int index) {
+        long e = entry(index);
+        int kind = (int) (e >>> 2 * BITS);
+        if (kind != OBJECT && kind != ARRAY) throw new IllegalArgumentException("not an object or array: " + index);
+        return (int) e & MAX_INPUT;
+    }
+
+    /**
+     * @param index 对象或数组的开始记号或结束记号
+     * @return 对象的成员数或数组的元素个数
+     */
+    public int count(int index) {
+        long e = entry(index);
+        int kind = (int) (e >>> 2 * BITS);
+        if (kind == OBJECT || kind == ARRAY) e = tape[(int) e & MAX_INPUT];
+        else if (kind != END_OBJECT && kind != END_ARRAY) throw new IllegalArgumentException("not an object or array: " + index);
+        return (int) e & MAX_INPUT;
+    }
+
+    /**
+     * @param index 一个值或键
+     * @return 跳过这个值（连同它的子树）之后的下一个记号的下标；键的下一个记号就是它的值
+     */
+    public int next(int index) {
+        int kind = kind(index);
+        return kind == OBJECT || kind == ARRAY ? close(index) + 1 : index + 1;
+    }
+
+    /**
+     * 在对象的直接成员里按解码后的内容查找键，不解码其他成员的值
+     *
+     * @param object 对象的开始记号
+     * @return 第一个同名键对应的值的下标，没有时为-1
+     */
+    public int field(int object, String name) {
+        if (kind(object) != OBJECT) throw new IllegalArgumentException("not an object: " + object);
+        byte[] quoted = JsonSchema.quote(name);
+        for (int k = object + 1, close = close(object); k < close; k = next(k + 1)) {
+            if (JsonValidator.sameString(in, base + offset(k), end, quoted, 0, quoted.length)) return k + 1;
+        }
+        return -1;
+    }
+
+    /**
+     * @param array 数组的开始记号
+     * @return 第n个元素（从0开始）的下标，越界时为-1
+     */
+    public int element(int array, int n) {
+        if (kind(array) != ARRAY) throw new IllegalArgumentException("not an array: " + array);
+        int close = close(array);
+        if (n < 0 || n >= count(close)) return -1;
+        int k = array + 1;
+        while (n-- > 0) k = next(k);
+        return k;
+    }
+
+    private long entry(int index) {
+        return tape[Objects.checkIndex(index, size)];
+    }
+
+    /**
+     * 扫描时逐个追加记号，由 {@link JsonValidator} 在语法正确的位置调用
+     */
+    static final class Tape {
+        private final int base;
+        private long[] entries;
+        private int size;
+        // 尚未结束的容器：开始记号的下标和已有的直接成员数
+        private int[] opens = new int[16];
+        private int[] counts = new int[16];
+        private int depth;
+
+        Tape(int base, int length) {
+            this.base = base;
+            this.entries = new long[Math.max(16, length >>> 3)];
+        }
+
+        void open(boolean object, int pos) {
+            value();
+            if (depth == opens.length) {
+                opens = Arrays.copyOf(opens, depth << 1);
+                counts = Arrays.copyOf(counts, depth << 1);
+            }
+            opens[depth] = size;
+            counts[depth++] = 0;
+            add(object ? OBJECT : ARRAY, pos, 0);
+        }
+
+        void close(int pos) {
+            int open = opens[--depth];
+            entries[open] |= size;
+            add(entries[open] >>> 2 * BITS == OBJECT ? END_OBJECT : END_ARRAY, pos, counts[depth]);
+        }
+
+        void key(int pos, int end) {
+            add(KEY, pos, end - pos);
+        }
+
+        /**
+         * @param c 标量的第一个字符
+         */
+        void scalar(int c, int pos, int end) {
+            value();
+            add(c == '"' ? STRING : c == 't' ? TRUE : c == 'f' ? FALSE : c == 'n' ? NULL : NUMBER, pos, end - pos);
+        }
+
+        JsonIndex finish(Object in, int end) {
+            return new JsonIndex(in, base, end, entries, size);
+        }
+
+        private void value() {
+            if (depth > 0) counts[depth - 1]++;
+        }
+
+        private void add(long kind, int pos, int payload) {
+            if (size == entries.length) entries = Arrays.copyOf(entries, size << 1);
+            entries[size++] = kind << 2 * BITS | (long) (pos - base) << BITS | payload;
+        }
+    }
+}
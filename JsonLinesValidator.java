@@ -0,0 +1,222 @@
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * @describe 校验 JSON Lines（NDJSON），每行一篇文档，以 '\n' 分隔，行尾的 '\r' 按空白处理。
+ * 每行直接在输入缓冲区上校验，不为行创建字符串，返回非法行的行号（从0开始）。
+ * 与 {@link JsonValidator} 一致，空行视为合法。实例不可变，可以在多个线程间共享
+ * <p>
+ * 构造时给了线程池的话，字节数组输入按行切成若干块并行校验
+ */
+public final class JsonLinesValidator {
+    /**
+     * 并行时每块至少的字节数
+     */
+    private static final int MIN_CHUNK = 1 << 20;
+    private static final int CHUNKS_PER_THREAD = 4;
+    /**
+     * 跨块的行在内存里最多保留的字节数，即数组长度的上限
+     */
+    private static final int MAX_LINE = Integer.MAX_VALUE - 8;
+
+    private final JsonValidator validator;
+    /**
+     * 为null时在调用线程上顺序校验
+     */
+    private final Executor executor;
+    private final int parallelism;
+
+    /**
+     * 顺序校验
+     */
+    public JsonLinesValidator() {
+        this(new JsonValidator(), null);
+    }
+
+    /**
+     * @param validator 校验每行所用的校验器
+     * @param executor  并行校验所用的线程池，为null时顺序校验
+     */
+    public JsonLinesValidator(JsonValidator validator, Executor executor) {
+        this.validator = Objects.requireNonNull(validator);
+        this.executor = executor;
+        this.parallelism = JsonTasks.parallelism(executor);
+    }
+
+    /**
+     * 校验 buf[off, off + len) 中的各行
+     *
+     * @return 非法行的行号，升序
+     */
+    public long[] validate(byte[] buf, int off, int len) {
+        Objects.checkFromIndexSize(off, len, buf.length);
+        int end = off + len;
+        if (executor == null || len < MIN_CHUNK * 2) {
+            return lines(buf, off, end).toArray();
+        }
+
+        int target = (int) Math.max(MIN_CHUNK, (long) len / ((long) parallelism * CHUNKS_PER_THREAD));
+        List<CompletableFuture<Lines>> chunks = new ArrayList<>();
+        for (int from = off; from < end; ) {
+            int to = target >= end - from ? end : newline(buf, from + target, end);
+            to = to == end ? end : to + 1;
+            int start = from, stop = to;
+            chunks.add(CompletableFuture.supplyAsync(() -> lines(buf, start, stop), executor));
+            from = to;
+        }
+        try {
+            Lines all = new Lines();
+            long base = 0;
+            for (CompletableFuture<Lines> chunk : chunks) {
+                Lines lines = chunk.join();
+                for (int i = 0; i < lines.size; i++) all.add(base + lines.invalid[i]);
+                base += lines.count;
+            }
+            return all.toArray();
+        } catch (CompletionException e) {
+            throw JsonTasks.unwrap(e);
+        }
+    }
+
+    /**
+     * 按 {@value JsonStreamValidator#CHUNK_SIZE} 字节一块读取并校验，完整落在一块里的行直接在缓冲区上校验，
+     * 跨块的行交给 {@link Pending}，结果与 {@link #validate(byte[], int, int)} 一致。不会关闭流
+     *
+     * @return 非法行的行号，升序
+     */
+    public long[] validate(InputStream in) throws IOException {
+        Lines lines = new Lines();
+        Pending pending = new Pending(validator);
+        byte[] buf = new byte[JsonStreamValidator.CHUNK_SIZE];
+        // 当前是否在跨块的行里
+        boolean crossing = false;
+        for (int n; (n = in.read(buf)) != -1; ) {
+            int pos = 0;
+            if (crossing) {
+                int nl = newline(buf, 0, n);
+                pending.append(buf, 0, nl);
+                if (nl == n) continue;
+                lines.line(pending.finish());
+                crossing = false;
+                pos = nl + 1;
+            }
+            for (int nl; (nl = newline(buf, pos, n)) < n; pos = nl + 1) {
+                lines.line(validator.validate(buf, pos, nl - pos));
+            }
+            if (pos < n) {
+                pending.append(buf, pos, n);
+                crossing = true;
+            }
+        }
+        if (crossing) lines.line(pending.finish());
+        return lines.toArray();
+    }
+
+    /**
+     * 校验 [from, end) 中的各行，最后一行可以没有换行符
+     */
+    private Lines lines(byte[] buf, int from, int end) {
+        Lines lines = new Lines();
+        int pos = from;
+        for (int nl; (nl = newline(buf, pos, end)) < end; pos = nl + 1) {
+            lines.line(validator.validate(buf, pos, nl - pos));
+        }
+        if (pos < end) lines.line(validator.validate(buf, pos, end - pos));
+        return lines;
+    }
+
+    /**
+     * @return [from, end) 中第一个 '\n' 的下标，没有时返回end
+     */
+    private static int newline(byte[] buf, int from, int end) {
+        while (from < end && buf[from] != '\n') from++;
+        return from;
+    }
+
+    /**
+     * 跨块的一行。流式校验支持当前配置时交给一个复用的 {@link JsonStreamValidator} 接着校验，内存不随行长增长；
+     * 否则（重复键、数字规则）复制到按需增长的缓冲区里，凑齐后在内存里校验，超过文档大小上限或2GB的行直接判为非法，
+     * 不再复制
+     */
+    private static final class Pending {
+        private final JsonValidator validator;
+        /**
+         * 为null时走缓冲区
+         */
+        private final JsonStreamValidator stream;
+        private final long limit;
+        private byte[] line;
+        /**
+         * 缓冲区模式下已读的字节数，超过limit之后只数字节
+         */
+        private long size;
+
+        Pending(JsonValidator validator) {
+            JsonValidatorConfig config = validator.config();
+            this.validator = validator;
+            this.stream = JsonStreamValidator.supports(config) ? new JsonStreamValidator(true, config) : null;
+            this.limit = Math.min(config.maxDocumentSize(), MAX_LINE);
+        }
+
+        void append(byte[] buf, int from, int to) {
+            if (stream != null) {
+                stream.feed(buf, from, to - from);
+                return;
+            }
+            if (size + to - from <= limit) {
+                int need = (int) size + to - from;
+                if (line == null) {
+                    line = new byte[Math.max(need, JsonStreamValidator.CHUNK_SIZE)];
+                } else if (need > line.length) {
+                    line = Arrays.copyOf(line, (int) Math.min(MAX_LINE, Math.max(need, 2L * line.length)));
+                }
+                System.arraycopy(buf, from, line, (int) size, to - from);
+            }
+            size += to - from;
+        }
+
+        /**
+         * 结束当前行，之后可以接着用于下一行
+         */
+        boolean finish() {
+            if (stream != null) {
+                boolean valid = stream.finish();
+                stream.reset();
+                return valid;
+            }
+            boolean valid = size <= limit && validator.validate(line, 0, (int) size);
+            size = 0;
+            return valid;
+        }
+    }
+
+    /**
+     * 已校验的行数和其中非法行的行号
+     */
+    private static final class Lines {
+        long count;
+        long[] invalid = new long[8];
+        int size;
+
+        void line(boolean valid) {
+            if (!valid) add(count);
+            count++;
+        }
+
+        void add(long line) {
+            if (size == invalid.length) invalid = Arrays.copyOf(invalid, size << 1);
+            invalid[size++] = line;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(invalid, size);
+        }
+    }
+}
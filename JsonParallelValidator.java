@@ -0,0 +1,216 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * @describe 把一篇大文档切成若干块并行校验。切分点选在 ',' 上，每块不知道自己的起点是否在字符串里，
+ * 也不知道起点之前打开的是对象还是数组，于是分别假设起点在字符串外部和内部各校验一遍，
+ * 块内遇到需要这些信息的字符时再据此推断，最后按顺序把各块的结果与实际状态拼接起来。
+ * 两种假设里错误的那个通常在块开头几个字符内就失败，额外开销很小
+ * <p>
+ * 小于 {@value #MIN_CHUNK} 字节的两倍的输入直接交给 {@link JsonValidator}。实例不可变，可以在多个线程间共享
+ */
+public final class JsonParallelValidator {
+    /**
+     * 每块至少的字节数
+     */
+    private static final long MIN_CHUNK = 1 << 20;
+    /**
+     * 每块的目标字节数上限，附近找不到 ',' 时块会更大
+     */
+    private static final long MAX_CHUNK = 1 << 30;
+    /**
+     * 从名义切分点往后找 ',' 的范围，找不到时这一处不切分
+     */
+    private static final int PROBE = 1 << 16;
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private final JsonValidator validator;
+    private final Executor executor;
+    private final int parallelism;
+
+    public JsonParallelValidator() {
+        this(new JsonValidator(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param validator 提供各项限制，小输入直接用它校验
+     * @param executor  执行各块校验的线程池
+     * @throws IllegalArgumentException validator要求检查重复键或设置了数字规则，分块之后做不到；不论输入大小都拒绝，免得结果随大小变化
+     */
+    public JsonParallelValidator(JsonValidator validator, Executor executor) {
+        JsonStreamValidator.requireSupported(validator.config());
+        this.validator = Objects.requireNonNull(validator);
+        this.executor = Objects.requireNonNull(executor);
+        this.parallelism = JsonTasks.parallelism(executor);
+    }
+
+    /**
+     * 校验 buf[off, off + len) 中的UTF-8字节
+     */
+    public boolean validate(byte[] buf, int off, int len) {
+        Objects.checkFromIndexSize(off, len, buf.length);
+        if (len < MIN_CHUNK * 2) return validator.validate(buf, off, len);
+        try {
+            return run(len, new Source() {
+                @Override
+                public ByteBuffer window(long from, int len) {
+                    return ByteBuffer.wrap(buf, off + (int) from, len).slice();
+                }
+
+                @Override
+                public void feed(long from, long to, JsonStreamValidator[] machines) {
+                    for (JsonStreamValidator m : machines) {
+                        m.feed(buf, off + (int) from, (int) (to - from));
+                    }
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 校验 position 到 limit 之间的字节，不会改变buffer的position
+     */
+    public boolean validate(ByteBuffer buf) {
+        if (buf.hasArray()) {
+            return validate(buf.array(), buf.arrayOffset() + buf.position(), buf.remaining());
+        }
+        int base = buf.position();
+        if (buf.remaining() < MIN_CHUNK * 2) return validator.validate(buf);
+        try {
+            return run(buf.remaining(), new Source() {
+                @Override
+                public ByteBuffer window(long from, int len) {
+                    return buf.slice(base + (int) from, len);
+                }
+
+                @Override
+                public void feed(long from, long to, JsonStreamValidator[] machines) {
+                    ByteBuffer slice = buf.slice(base + (int) from, (int) (to - from));
+                    for (JsonStreamValidator m : machines) {
+                        m.feed(slice);
+                    }
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 每块单独按窗口映射到内存后校验，文件大小没有限制
+     *
+     * @param path UTF-8编码的json文件
+     */
+    public boolean validateFile(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < MIN_CHUNK * 2) return validator.validateFile(path);
+            return run(size, new Source() {
+                @Override
+                public ByteBuffer window(long from, int len) throws IOException {
+                    return channel.map(FileChannel.MapMode.READ_ONLY, from, len);
+                }
+
+                @Override
+                public void feed(long from, long to, JsonStreamValidator[] machines) throws IOException {
+                    for (long pos = from; pos < to; pos += JsonValidator.MAP_WINDOW) {
+                        ByteBuffer region = window(pos, (int) Math.min(JsonValidator.MAP_WINDOW, to - pos));
+                        for (JsonStreamValidator m : machines) {
+                            m.feed(region);
+                        }
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * 被切分的输入，位置都是相对输入起点的偏移
+     */
+    private interface Source {
+        /**
+         * [from, from + len) 的只读视图
+         */
+        ByteBuffer window(long from, int len) throws IOException;
+
+        /**
+         * 把 [from, to) 依次喂给每个校验器
+         */
+        void feed(long from, long to, JsonStreamValidator[] machines) throws IOException;
+    }
+
+    private boolean run(long size, Source source) throws IOException {
+        JsonValidatorConfig config = validator.config();
+        if (size > config.maxDocumentSize()) return false;
+        long target = Math.min(MAX_CHUNK, Math.max(MIN_CHUNK, size / ((long) parallelism * CHUNKS_PER_THREAD)));
+        List<Long> cuts = new ArrayList<>();
+        cuts.add(0L);
+        for (long pos = target; pos < size; pos += target) {
+            long cut = cut(source, pos, size);
+            if (cut >= 0) {
+                cuts.add(cut);
+                pos = cut;
+            }
+        }
+        cuts.add(size);
+
+        List<CompletableFuture<JsonStreamValidator[]>> chunks = new ArrayList<>();
+        for (int i = 0; i + 1 < cuts.size(); i++) {
+            long from = cuts.get(i), to = cuts.get(i + 1);
+            JsonStreamValidator[] machines = i == 0
+                    ? new JsonStreamValidator[]{new JsonStreamValidator(true, config)}
+                    : new JsonStreamValidator[]{new JsonStreamValidator(true, config, false),
+                    new JsonStreamValidator(true, config, true)};
+            chunks.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    source.feed(from, to, machines);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return machines;
+            }, executor));
+        }
+
+        try {
+            JsonStreamValidator doc = chunks.get(0).join()[0];
+            for (int i = 1; i < chunks.size(); i++) {
+                JsonStreamValidator[] chunk = chunks.get(i).join();
+                if (!doc.append(chunk[0], chunk[1])) {
+                    for (int k = i + 1; k < chunks.size(); k++) chunks.get(k).cancel(false);
+                    return false;
+                }
+            }
+            return doc.finish();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException) throw ((UncheckedIOException) e.getCause()).getCause();
+            throw JsonTasks.unwrap(e);
+        }
+    }
+
+    /**
+     * 从pos开始找一个可以切分的 ','，它前一个字节不能是反斜杠，否则分不清它是否被转义
+     *
+     * @return 切分点，{@value #PROBE} 字节内找不到时返回-1，这一处不切分
+     */
+    private static long cut(Source source, long pos, long size) throws IOException {
+        int len = (int) Math.min(PROBE, size - pos + 1);
+        ByteBuffer window = source.window(pos - 1, len);
+        for (int i = 1; i < len; i++) {
+            if (window.get(i) == ',' && window.get(i - 1) != '\\') return pos - 1 + i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,686 @@
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * @describe 编译后的 JSON Schema（draft 2020-12 的子集），交给 {@link JsonValidator#validate(String, JsonSchema)} 等方法，
+ * 在语法校验的同一遍扫描里检查文档结构，文档只读一遍。编译结果是一棵不可变的节点树，可以在多个线程间共享，
+ * 每次校验只另外创建一个记录当前位置的游标
+ * <p>
+ * 支持的关键字：type、enum、const、minimum、maximum、exclusiveMinimum、exclusiveMaximum、minLength、maxLength、
+ * pattern、properties、required、minProperties、maxProperties、items、minItems、maxItems，以及 true/false 两个布尔schema。
+ * enum 和 const 只支持标量；properties 里没有列出的属性不受约束；pattern 按 {@link Pattern} 的语法在值里查找匹配。
+ * $ref、allOf、additionalProperties 等改变判定结果却不支持的关键字编译时报错，title、format 等其余关键字忽略
+ */
+public final class JsonSchema {
+    // type 的各个取值，每种一位
+    private static final int NULL = 1;
+    private static final int BOOLEAN = 1 << 1;
+    private static final int OBJECT = 1 << 2;
+    private static final int ARRAY = 1 << 3;
+    private static final int NUMBER = 1 << 4;
+    private static final int INTEGER = 1 << 5;
+    private static final int STRING = 1 << 6;
+    private static final int ALL = (1 << 7) - 1;
+    private static final List<String> TYPES = List.of("null", "boolean", "object", "array", "number", "integer", "string");
+    /**
+     * 忽略后会把不符合的文档判为合法的关键字
+     */
+    private static final Set<String> UNSUPPORTED = Set.of("$ref", "$dynamicRef", "allOf", "anyOf", "oneOf", "not",
+            "if", "then", "else", "additionalProperties", "patternProperties", "propertyNames", "dependentRequired",
+            "dependentSchemas", "unevaluatedProperties", "prefixItems", "contains", "minContains", "maxContains",
+            "unevaluatedItems", "uniqueItems", "multipleOf");
+    /**
+     * schema里的 null 值
+     */
+    private static final Object NULL_VALUE = new Object();
+    /**
+     * 不作任何约束的schema，值为它的容器整个跳过，不再逐层记录
+     */
+    private static final Node ANY = new Node(ALL);
+    private static final Node NONE = new Node(0);
+
+    private final Node root;
+
+    private JsonSchema(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * @param schema schema的JSON文本
+     * @throws IllegalArgumentException schema不是合法的JSON，用了不支持的关键字，或者关键字的值不合要求
+     */
+    public static JsonSchema compile(String schema) {
+        JsonValidator syntax = new JsonValidator(JsonValidatorConfig.builder().rejectDuplicateKeys(true).build());
+        syntax.diagnose(schema).ifPresent(e -> {
+            throw new IllegalArgumentException("invalid schema: " + e);
+        });
+        if (schema.isBlank()) throw new IllegalArgumentException("empty schema");
+        return new JsonSchema(node(new Parser(schema).value(), "#"));
+    }
+
+    private static Node node(Object schema, String path) {
+        if (schema instanceof Boolean) return (Boolean) schema ? ANY : NONE;
+        if (!(schema instanceof Map)) throw new IllegalArgumentException(path + ": schema must be an object or a boolean");
+        @SuppressWarnings("unchecked")
+        Map<String, Object> keywords = (Map<String, Object>) schema;
+        for (String keyword : keywords.keySet()) {
+            if (UNSUPPORTED.contains(keyword)) {
+                throw new IllegalArgumentException(path + ": unsupported keyword " + keyword);
+            }
+        }
+        Node node = new Node(keywords, path);
+        return node.constrains() ? node : ANY;
+    }
+
+    /**
+     * 把字符串写回成带引号的UTF-8 JSON字符串，只转义引号和反斜杠，用于和输入里的字符串按码点比较。
+     * 字节数组读起来比String快；单独的代理单元也按三字节编码，解码后原样还原
+     */
+    static byte[] quote(String s) {
+        byte[] out = new byte[s.length() * 3 + 2];
+        int n = 0;
+        out[n++] = '"';
+        for (int k = 0; k < s.length(); ) {
+            int c = s.codePointAt(k);
+            k += Character.charCount(c);
+            if (c == '"' || c == '\\') {
+                out[n++] = '\\';
+                out[n++] = (byte) c;
+            } else if (c < 0x80) {
+                out[n++] = (byte) c;
+            } else if (c < 0x800) {
+                out[n++] = (byte) (0xC0 | c >> 6);
+                out[n++] = (byte) (0x80 | c & 0x3F);
+            } else if (c < 0x10000) {
+                out[n++] = (byte) (0xE0 | c >> 12);
+                out[n++] = (byte) (0x80 | c >> 6 & 0x3F);
+                out[n++] = (byte) (0x80 | c & 0x3F);
+            } else {
+                out[n++] = (byte) (0xF0 | c >> 18);
+                out[n++] = (byte) (0x80 | c >> 12 & 0x3F);
+                out[n++] = (byte) (0x80 | c >> 6 & 0x3F);
+                out[n++] = (byte) (0x80 | c & 0x3F);
+            }
+        }
+        out[n++] = '"';
+        return Arrays.copyOf(out, n);
+    }
+
+    /**
+     * 把输入里 [start, stop) 的数字转成BigDecimal。指数超出int范围时数值实际上是无穷大或零，
+     * 用一个远超任何边界的数代替
+     */
+    private static BigDecimal decimal(Object in, int start, int stop) {
+        char[] chars = new char[stop - start];
+        for (int k = 0; k < chars.length; k++) chars[k] = (char) JsonValidator.at(in, start + k, stop);
+        try {
+            return new BigDecimal(chars);
+        } catch (NumberFormatException e) {
+            String text = new String(chars);
+            int exp = Math.max(text.indexOf('e'), text.indexOf('E'));
+            BigDecimal mantissa = new BigDecimal(text.substring(0, exp));
+            if (mantissa.signum() == 0) return BigDecimal.ZERO;
+            int scale = text.charAt(exp + 1) == '-' ? Integer.MAX_VALUE / 2 : -(Integer.MAX_VALUE / 2);
+            return BigDecimal.valueOf(mantissa.signum(), scale);
+        }
+    }
+
+    private static boolean integral(BigDecimal d) {
+        return d.signum() == 0 || d.stripTrailingZeros().scale() <= 0;
+    }
+
+    /**
+     * schema里的一个节点，只读
+     */
+    private static final class Node {
+        final int types;
+        /**
+         * enum 的取值：带引号的UTF-8字符串、BigDecimal、Boolean 或 {@link #NULL_VALUE}，为null时不限制
+         */
+        final Object[] enums;
+        final BigDecimal minimum, maximum, exclusiveMinimum, exclusiveMaximum;
+        final boolean bounded;
+        /**
+         * 满足所有数值边界的long范围，lo > hi 时没有long满足；能用long表示的数字不用转BigDecimal
+         */
+        final long lo, hi;
+        final int minLength, maxLength;
+        final Pattern pattern;
+        /**
+         * properties 和 required 里出现的属性名（带引号），及其schema和在required位集里的位置（不是必需的为-1）
+         */
+        final byte[][] names;
+        final Node[] properties;
+        final int[] required;
+        final int requiredCount;
+        final int[] hashes;
+        /**
+         * 按散列值开放寻址，存属性在names里的下标加一，0为空槽
+         */
+        final int[] table;
+        final int minProperties, maxProperties;
+        final Node items;
+        final int minItems, maxItems;
+
+        Node(int types) {
+            this.types = types;
+            this.enums = null;
+            this.minimum = this.maximum = this.exclusiveMinimum = this.exclusiveMaximum = null;
+            this.bounded = false;
+            this.lo = Long.MIN_VALUE;
+            this.hi = Long.MAX_VALUE;
+            this.minLength = this.minProperties = this.minItems = 0;
+            this.maxLength = this.maxProperties = this.maxItems = Integer.MAX_VALUE;
+            this.pattern = null;
+            this.names = new byte[0][];
+            this.properties = new Node[0];
+            this.required = new int[0];
+            this.requiredCount = 0;
+            this.hashes = new int[0];
+            this.table = new int[1];
+            this.items = this;
+        }
+
+        Node(Map<String, Object> keywords, String path) {
+            this.types = types(keywords.get("type"), path);
+            this.enums = enums(keywords, path);
+
+            this.minimum = bound(keywords, "minimum", path);
+            this.maximum = bound(keywords, "maximum", path);
+            this.exclusiveMinimum = bound(keywords, "exclusiveMinimum", path);
+            this.exclusiveMaximum = bound(keywords, "exclusiveMaximum", path);
+            this.bounded = minimum != null || maximum != null || exclusiveMinimum != null || exclusiveMaximum != null;
+            BigDecimal longMin = BigDecimal.valueOf(Long.MIN_VALUE), longMax = BigDecimal.valueOf(Long.MAX_VALUE);
+            BigDecimal low = longMin, high = longMax;
+            if (minimum != null) low = low.max(clamp(minimum).setScale(0, RoundingMode.CEILING));
+            if (exclusiveMinimum != null) {
+                low = low.max(clamp(exclusiveMinimum).setScale(0, RoundingMode.FLOOR).add(BigDecimal.ONE));
+            }
+            if (maximum != null) high = high.min(clamp(maximum).setScale(0, RoundingMode.FLOOR));
+            if (exclusiveMaximum != null) {
+                high = high.min(clamp(exclusiveMaximum).setScale(0, RoundingMode.CEILING).subtract(BigDecimal.ONE));
+            }
+            if (low.compareTo(longMax) > 0 || high.compareTo(longMin) < 0 || low.compareTo(high) > 0) {
+                this.lo = 1;
+                this.hi = 0;
+            } else {
+                this.lo = low.longValueExact();
+                this.hi = high.longValueExact();
+            }
+
+            this.minLength = count(keywords, "minLength", 0, path);
+            this.maxLength = count(keywords, "maxLength", Integer.MAX_VALUE, path);
+            Object regex = keywords.get("pattern");
+            if (regex != null && !(regex instanceof String)) {
+                throw new IllegalArgumentException(path + "/pattern: must be a string");
+            }
+            try {
+                this.pattern = regex == null ? null : Pattern.compile((String) regex);
+            } catch (PatternSyntaxException e) {
+                throw new IllegalArgumentException(path + "/pattern: " + e.getDescription(), e);
+            }
+
+            Map<String, Object> props = object(keywords.get("properties"), path + "/properties");
+            List<String> req = strings(keywords.get("required"), path + "/required");
+            Map<String, Node> all = new LinkedHashMap<>();
+            for (Map.Entry<String, Object> e : props.entrySet()) {
+                all.put(e.getKey(), node(e.getValue(), path + "/properties/" + e.getKey()));
+            }
+            for (String name : req) all.putIfAbsent(name, ANY);
+            int n = all.size();
+            this.names = new byte[n][];
+            this.properties = new Node[n];
+            this.required = new int[n];
+            this.hashes = new int[n];
+            this.table = new int[Integer.highestOneBit(Math.max(1, n) * 2 - 1) << 1];
+            int k = 0, bit = 0;
+            for (Map.Entry<String, Node> e : all.entrySet()) {
+                names[k] = quote(e.getKey());
+                properties[k] = e.getValue();
+                required[k] = req.contains(e.getKey()) ? bit++ : -1;
+                hashes[k] = JsonValidator.keyHash(names[k], 0, names[k].length);
+                int mask = table.length - 1, s = hashes[k] & mask;
+                while (table[s] != 0) s = s + 1 & mask;
+                table[s] = ++k;
+            }
+            this.requiredCount = bit;
+            this.minProperties = count(keywords, "minProperties", 0, path);
+            this.maxProperties = count(keywords, "maxProperties", Integer.MAX_VALUE, path);
+
+            Object item = keywords.get("items");
+            if (item instanceof List) {
+                throw new IllegalArgumentException(path + "/items: array form is not supported, use a single schema");
+            }
+            this.items = item == null ? ANY : node(item, path + "/items");
+            this.minItems = count(keywords, "minItems", 0, path);
+            this.maxItems = count(keywords, "maxItems", Integer.MAX_VALUE, path);
+        }
+
+        /**
+         * 是否有任何约束，没有的节点编译成 {@link #ANY}
+         */
+        boolean constrains() {
+            return types != ALL || enums != null || bounded || minLength > 0 || maxLength != Integer.MAX_VALUE
+                    || pattern != null || names.length > 0 || minProperties > 0 || maxProperties != Integer.MAX_VALUE
+                    || items != ANY || minItems > 0 || maxItems != Integer.MAX_VALUE;
+        }
+
+        /**
+         * @return 下标key处的键在names里的下标，不在时返回-1
+         */
+        int lookup(Object in, int key, int end) {
+            int hash = JsonValidator.keyHash(in, key, end);
+            int mask = table.length - 1;
+            for (int s = hash & mask; table[s] != 0; s = s + 1 & mask) {
+                int k = table[s] - 1;
+                if (hashes[k] == hash && JsonValidator.sameString(in, key, end, names[k], 0, names[k].length)) {
+                    return k;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * 检查 [start, stop) 处的字符串、字面量或数字，c是它的首字符
+         */
+        JsonError.Kind scalar(Object in, int start, int stop, int c) {
+            if (this == ANY) return null;
+            switch (c) {
+                case '"':
+                    return string(in, start, stop);
+                case 't':
+                case 'f':
+                    if ((types & BOOLEAN) == 0) return JsonError.Kind.SCHEMA_TYPE;
+                    return enums == null || contains(c == 't') ? null : JsonError.Kind.SCHEMA_ENUM;
+                case 'n':
+                    if ((types & NULL) == 0) return JsonError.Kind.SCHEMA_TYPE;
+                    return enums == null || contains(NULL_VALUE) ? null : JsonError.Kind.SCHEMA_ENUM;
+                default:
+                    return number(in, start, stop);
+            }
+        }
+
+        private boolean contains(Object value) {
+            for (Object e : enums) {
+                if (e.equals(value)) return true;
+            }
+            return false;
+        }
+
+        private JsonError.Kind string(Object in, int start, int stop) {
+            if ((types & STRING) == 0) return JsonError.Kind.SCHEMA_TYPE;
+            if (enums != null) {
+                boolean found = false;
+                for (int k = 0; k < enums.length && !found; k++) {
+                    if (enums[k] instanceof byte[]) {
+                        byte[] e = (byte[]) enums[k];
+                        found = JsonValidator.sameString(in, start, stop, e, 0, e.length);
+                    }
+                }
+                if (!found) return JsonError.Kind.SCHEMA_ENUM;
+            }
+            if (minLength > 0 || maxLength != Integer.MAX_VALUE) {
+                // 长度按码点计，超过上限就不再数；普通ASCII字符不用走解码
+                int n = 0;
+                for (int i = start + 1; n <= maxLength; n++) {
+                    int c = JsonValidator.at(in, i, stop);
+                    if (c < 0x80 && c != '"' && c != '\\') {
+                        i++;
+                    } else {
+                        long d = JsonValidator.codePoint(in, i, stop);
+                        if ((int) (d >> 32) < 0) break;
+                        i = (int) d;
+                    }
+                }
+                if (n < minLength || n > maxLength) return JsonError.Kind.SCHEMA_LENGTH;
+            }
+            if (pattern != null) {
+                StringBuilder value = new StringBuilder(stop - start);
+                for (long d = JsonValidator.codePoint(in, start + 1, stop); (int) (d >> 32) >= 0;
+                     d = JsonValidator.codePoint(in, (int) d, stop)) {
+                    value.appendCodePoint((int) (d >> 32));
+                }
+                if (!pattern.matcher(value).find()) return JsonError.Kind.SCHEMA_PATTERN;
+            }
+            return null;
+        }
+
+        private JsonError.Kind number(Object in, int start, int stop) {
+            if ((types & (NUMBER | INTEGER)) == 0) return JsonError.Kind.SCHEMA_TYPE;
+            // 不超过18个字符的整数放得进long，不用转BigDecimal
+            boolean simple = stop - start <= 18;
+            long value = 0;
+            for (int k = start; k < stop && simple; k++) {
+                int c = JsonValidator.at(in, k, stop);
+                if (c >= '0' && c <= '9') value = value * 10 + (c - '0');
+                else simple = c == '-';
+            }
+            if (simple && JsonValidator.at(in, start, stop) == '-') value = -value;
+            BigDecimal d = null;
+            if ((types & NUMBER) == 0 && !simple && !integral(d = decimal(in, start, stop))) {
+                return JsonError.Kind.SCHEMA_TYPE;
+            }
+            if (enums != null) {
+                if (d == null) d = decimal(in, start, stop);
+                boolean found = false;
+                for (int k = 0; k < enums.length && !found; k++) {
+                    found = enums[k] instanceof BigDecimal && ((BigDecimal) enums[k]).compareTo(d) == 0;
+                }
+                if (!found) return JsonError.Kind.SCHEMA_ENUM;
+            }
+            if (bounded) {
+                if (simple) return value < lo || value > hi ? JsonError.Kind.SCHEMA_RANGE : null;
+                if (d == null) d = decimal(in, start, stop);
+                if (minimum != null && d.compareTo(minimum) < 0
+                        || maximum != null && d.compareTo(maximum) > 0
+                        || exclusiveMinimum != null && d.compareTo(exclusiveMinimum) <= 0
+                        || exclusiveMaximum != null && d.compareTo(exclusiveMaximum) >= 0) {
+                    return JsonError.Kind.SCHEMA_RANGE;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * 把边界收到long范围外一点，取整时不会因为指数太大而展开成很长的整数
+         */
+        private static BigDecimal clamp(BigDecimal v) {
+            return v.max(BigDecimal.valueOf(Long.MIN_VALUE).subtract(BigDecimal.ONE))
+                    .min(BigDecimal.valueOf(Long.MAX_VALUE).add(BigDecimal.ONE));
+        }
+
+        private static int types(Object type, String path) {
+            if (type == null) return ALL;
+            List<?> names = type instanceof List ? (List<?>) type : List.of(type);
+            int types = 0;
+            for (Object name : names) {
+                int k = TYPES.indexOf(name);
+                if (k < 0) throw new IllegalArgumentException(path + "/type: unknown type " + name);
+                types |= 1 << k;
+            }
+            // number 已经包括了整数
+            return (types & NUMBER) != 0 ? types | INTEGER : types;
+        }
+
+        private static Object[] enums(Map<String, Object> keywords, String path) {
+            List<?> values;
+            if (keywords.containsKey("const")) {
+                values = Arrays.asList(keywords.get("const"));
+            } else if (keywords.containsKey("enum")) {
+                if (!(keywords.get("enum") instanceof List)) throw new IllegalArgumentException(path + "/enum: must be an array");
+                values = (List<?>) keywords.get("enum");
+            } else {
+                return null;
+            }
+            Object[] enums = new Object[values.size()];
+            for (int k = 0; k < enums.length; k++) {
+                Object v = values.get(k);
+                if (v instanceof Map || v instanceof List) {
+                    throw new IllegalArgumentException(path + ": only scalar enum and const values are supported");
+                }
+                enums[k] = v instanceof String ? quote((String) v) : v;
+            }
+            return enums;
+        }
+
+        private static BigDecimal bound(Map<String, Object> keywords, String keyword, String path) {
+            Object v = keywords.get(keyword);
+            if (v != null && !(v instanceof BigDecimal)) {
+                throw new IllegalArgumentException(path + "/" + keyword + ": must be a number");
+            }
+            return (BigDecimal) v;
+        }
+
+        /**
+         * 非负整数关键字，超过int范围的按 Integer.MAX_VALUE 处理
+         */
+        private static int count(Map<String, Object> keywords, String keyword, int absent, String path) {
+            BigDecimal v = bound(keywords, keyword, path);
+            if (v == null) return absent;
+            if (v.signum() < 0 || !integral(v)) {
+                throw new IllegalArgumentException(path + "/" + keyword + ": must be a non-negative integer");
+            }
+            return v.compareTo(BigDecimal.valueOf(Integer.MAX_VALUE)) >= 0 ? Integer.MAX_VALUE : v.intValue();
+        }
+
+        @SuppressWarnings("unchecked")
+        private static Map<String, Object> object(Object v, String path) {
+            if (v == null) return Map.of();
+            if (!(v instanceof Map)) throw new IllegalArgumentException(path + ": must be an object");
+            return (Map<String, Object>) v;
+        }
+
+        private static List<String> strings(Object v, String path) {
+            if (v == null) return List.of();
+            if (!(v instanceof List)) throw new IllegalArgumentException(path + ": must be an array");
+            List<String> strings = new ArrayList<>();
+            Set<Object> seen = new HashSet<>();
+            for (Object s : (List<?>) v) {
+                if (!(s instanceof String) || !seen.add(s)) {
+                    throw new IllegalArgumentException(path + ": must be an array of unique strings");
+                }
+                strings.add((String) s);
+            }
+            return strings;
+        }
+    }
+
+    /**
+     * 一次校验里schema的当前位置，由 {@link JsonValidator} 在扫描到值、键和容器边界时推进，
+     * 返回不符合的原因，符合时返回null。不是线程安全的，每次校验创建一个
+     */
+    static final class Cursor {
+        /**
+         * 下一个值的schema
+         */
+        private Node next;
+        /**
+         * 当前处在几层不受约束的容器里，大于0时只计数，不检查
+         */
+        private int skip;
+        private Frame[] frames = new Frame[8];
+        private int depth;
+
+        Cursor(JsonSchema schema) {
+            this.next = schema.root;
+        }
+
+        JsonError.Kind open(boolean object) {
+            if (skip > 0) {
+                skip++;
+                return null;
+            }
+            Node node = next;
+            if (node == ANY) {
+                skip = 1;
+                return null;
+            }
+            if ((node.types & (object ? OBJECT : ARRAY)) == 0) return JsonError.Kind.SCHEMA_TYPE;
+            if (node.enums != null) return JsonError.Kind.SCHEMA_ENUM;
+            if (depth == frames.length) frames = Arrays.copyOf(frames, depth << 1);
+            Frame frame = frames[depth];
+            if (frame == null) frames[depth] = frame = new Frame();
+            frame.open(node, object);
+            depth++;
+            return null;
+        }
+
+        /**
+         * 当前对象里下标key处的键
+         */
+        JsonError.Kind key(Object in, int key, int end) {
+            if (skip > 0) return null;
+            Frame frame = frames[depth - 1];
+            Node node = frame.node;
+            if (++frame.count > node.maxProperties) return JsonError.Kind.SCHEMA_PROPERTIES;
+            int k = node.names.length == 0 ? -1 : node.lookup(in, key, end);
+            if (k < 0) {
+                next = ANY;
+            } else {
+                next = node.properties[k];
+                frame.see(node.required[k]);
+            }
+            return null;
+        }
+
+        /**
+         * 当前数组里的下一个元素
+         */
+        JsonError.Kind element() {
+            if (skip > 0) return null;
+            Frame frame = frames[depth - 1];
+            if (++frame.count > frame.node.maxItems) return JsonError.Kind.SCHEMA_ITEMS;
+            next = frame.node.items;
+            return null;
+        }
+
+        JsonError.Kind close() {
+            if (skip > 0) {
+                skip--;
+                return null;
+            }
+            Frame frame = frames[--depth];
+            Node node = frame.node;
+            if (frame.object) {
+                if (frame.count < node.minProperties) return JsonError.Kind.SCHEMA_PROPERTIES;
+                if (frame.found < node.requiredCount) return JsonError.Kind.SCHEMA_REQUIRED;
+            } else if (frame.count < node.minItems) {
+                return JsonError.Kind.SCHEMA_ITEMS;
+            }
+            return null;
+        }
+
+        JsonError.Kind scalar(Object in, int start, int stop, int c) {
+            return skip > 0 ? null : next.scalar(in, start, stop, c);
+        }
+    }
+
+    /**
+     * 一层受约束的容器，按深度复用
+     */
+    private static final class Frame {
+        Node node;
+        boolean object;
+        int count;
+        /**
+         * 已出现的必需属性个数和位集
+         */
+        int found;
+        long[] seen = new long[1];
+
+        void open(Node node, boolean object) {
+            this.node = node;
+            this.object = object;
+            this.count = 0;
+            this.found = 0;
+            int words = node.requiredCount + 63 >>> 6;
+            if (words > seen.length) seen = new long[words];
+            else Arrays.fill(seen, 0, words, 0);
+        }
+
+        void see(int bit) {
+            if (bit < 0) return;
+            long mask = 1L << bit;
+            if ((seen[bit >>> 6] & mask) == 0) {
+                seen[bit >>> 6] |= mask;
+                found++;
+            }
+        }
+    }
+
+    /**
+     * 把已经校验过的schema文本读成 Map、List、String、BigDecimal、Boolean 和 {@link #NULL_VALUE} 组成的树
+     */
+    private static final class Parser {
+        private final String text;
+        private int i;
+
+        Parser(String text) {
+            this.text = text;
+        }
+
+        Object value() {
+            skipWhiteSpace();
+            char c = text.charAt(i);
+            switch (c) {
+                case '{': {
+                    Map<String, Object> object = new LinkedHashMap<>();
+                    skipWhiteSpace(++i);
+                    if (text.charAt(i) == '}') {
+                        i++;
+                        return object;
+                    }
+                    do {
+                        skipWhiteSpace();
+                        String key = string();
+                        skipWhiteSpace();
+                        i++;
+                        object.put(key, value());
+                        skipWhiteSpace();
+                    } while (text.charAt(i++) == ',');
+                    return object;
+                }
+                case '[': {
+                    List<Object> array = new ArrayList<>();
+                    skipWhiteSpace(++i);
+                    if (text.charAt(i) == ']') {
+                        i++;
+                        return array;
+                    }
+                    do {
+                        array.add(value());
+                        skipWhiteSpace();
+                    } while (text.charAt(i++) == ',');
+                    return array;
+                }
+                case '"':
+                    return string();
+                case 't':
+                    i += 4;
+                    return Boolean.TRUE;
+                case 'f':
+                    i += 5;
+                    return Boolean.FALSE;
+                case 'n':
+                    i += 4;
+                    return NULL_VALUE;
+                default:
+                    int start = i;
+                    while (i < text.length() && JsonChars.is(text.charAt(i), JsonChars.NUMBER)) i++;
+                    try {
+                        return new BigDecimal(text.substring(start, i));
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("number out of range in schema: " + text.substring(start, i));
+                    }
+            }
+        }
+
+        private String string() {
+            StringBuilder s = new StringBuilder();
+            long d = JsonValidator.codePoint(text, i + 1, text.length());
+            for (; (int) (d >> 32) >= 0; d = JsonValidator.codePoint(text, (int) d, text.length())) {
+                s.appendCodePoint((int) (d >> 32));
+            }
+            i = (int) d;
+            return s.toString();
+        }
+
+        private void skipWhiteSpace(int from) {
+            i = from;
+            skipWhiteSpace();
+        }
+
+        private void skipWhiteSpace() {
+            while (i < text.length() && JsonChars.isWhitespace(text.charAt(i))) i++;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * @describe 编译后schema的缓存，按ID或schema文本查找，最多保留 maxSize 个，超出时淘汰最久没用过的。
+ * 命中时只做一次加锁的查表；未命中时在锁外编译，编译期间不挡住其他线程，同一个ID并发未命中时可能重复编译，保留先放进去的那个。
+ * 编译期间这个ID被 {@link #invalidate}、{@link #clear} 或 {@link #preload} 过的话，编译结果只返回给调用方，不放入缓存。
+ * 线程安全
+ * <p>
+ * 编译失败抛出的 {@link IllegalArgumentException} 原样抛给调用方，不缓存
+ */
+public final class JsonSchemaCache {
+    private final int maxSize;
+    /**
+     * 按访问顺序排列，最久没用过的在最前面，由自身加锁保护
+     */
+    private final LinkedHashMap<String, JsonSchema> schemas;
+    /**
+     * 正在锁外编译的ID，只在有编译进行时存在，由schemas的锁保护
+     */
+    private final Map<String, Load> loads = new HashMap<>();
+    // 以下计数由schemas的锁保护
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * @param maxSize 最多缓存的schema个数
+     */
+    public JsonSchemaCache(int maxSize) {
+        if (maxSize < 1) throw new IllegalArgumentException("maxSize: " + maxSize);
+        this.maxSize = maxSize;
+        this.schemas = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, JsonSchema> eldest) {
+                if (size() <= JsonSchemaCache.this.maxSize) return false;
+                evictions++;
+                return true;
+            }
+        };
+    }
+
+    /**
+     * 以schema文本本身为键
+     *
+     * @param schema schema的JSON文本
+     * @throws IllegalArgumentException schema无法编译
+     */
+    public JsonSchema get(String schema) {
+        return get(schema, Function.identity());
+    }
+
+    /**
+     * 按ID查找，未命中时用loader取出schema文本编译后放入缓存
+     *
+     * @param id     schema的ID，比如租户和版本号的组合
+     * @param loader 根据ID给出schema的JSON文本，只在未命中时调用
+     * @throws IllegalArgumentException schema无法编译
+     */
+    public JsonSchema get(String id, Function<? super String, String> loader) {
+        Objects.requireNonNull(id);
+        Load load;
+        long generation;
+        synchronized (schemas) {
+            JsonSchema schema = schemas.get(id);
+            if (schema != null) {
+                hits++;
+                return schema;
+            }
+            misses++;
+            load = loads.computeIfAbsent(id, k -> new Load());
+            load.running++;
+            generation = load.generation;
+        }
+        JsonSchema compiled = null;
+        try {
+            compiled = JsonSchema.compile(loader.apply(id));
+        } finally {
+            synchronized (schemas) {
+                if (--load.running == 0) loads.remove(id);
+                // 编译期间被移除或替换过的话，这次的结果可能来自旧的schema文本，不放入缓存
+                if (compiled != null && load.generation == generation) {
+                    JsonSchema raced = schemas.putIfAbsent(id, compiled);
+                    if (raced != null) compiled = raced;
+                }
+            }
+        }
+        return compiled;
+    }
+
+    /**
+     * 让这个ID正在进行的编译作废，调用时已持有schemas的锁
+     */
+    private void bump(String id) {
+        Load load = loads.get(id);
+        if (load != null) load.generation++;
+    }
+
+    /**
+     * 启动时预先编译，已有的ID会被替换，不计入命中和未命中
+     *
+     * @param schemas ID到schema文本
+     * @throws IllegalArgumentException 某个schema无法编译，此前的已经放入缓存
+     */
+    public void preload(Map<String, String> schemas) {
+        for (Map.Entry<String, String> e : schemas.entrySet()) {
+            JsonSchema compiled = JsonSchema.compile(e.getValue());
+            synchronized (this.schemas) {
+                this.schemas.put(Objects.requireNonNull(e.getKey()), compiled);
+                bump(e.getKey());
+            }
+        }
+    }
+
+    /**
+     * schema变更后移除旧的编译结果，下次查找时重新编译
+     */
+    public void invalidate(String id) {
+        synchronized (schemas) {
+            schemas.remove(id);
+            bump(id);
+        }
+    }
+
+    public void clear() {
+        synchronized (schemas) {
+            schemas.clear();
+            for (Load load : loads.values()) load.generation++;
+        }
+    }
+
+    public int size() {
+        synchronized (schemas) {
+            return schemas.size();
+        }
+    }
+
+    public long hits() {
+        synchronized (schemas) {
+            return hits;
+        }
+    }
+
+    public long misses() {
+        synchronized (schemas) {
+            return misses;
+        }
+    }
+
+    /**
+     * 因超出 maxSize 被淘汰的个数，不含 {@link #invalidate} 和 {@link #clear} 移除的
+     */
+    public long evictions() {
+        synchronized (schemas) {
+            return evictions;
+        }
+    }
+
+    /**
+     * 一个ID上正在进行的编译个数，及移除或替换的代数
+     */
+    private static final class Load {
+        int running;
+        long generation;
+    }
+
+    @Override
+    public String toString() {
+        synchronized (schemas) {
+            return "JsonSchemaCache{size=" + schemas.size() + "/" + maxSize + ", hits=" + hits + ", misses=" + misses
+                    + ", evictions=" + evictions + "}";
+        }
+    }
+}
@@ -0,0 +1,701 @@
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * @describe 分块校验json，块与块之间的扫描进度保存在字段里，token可以在任意位置被切开，
+ * 内存占用只和嵌套深度有关，与文档大小无关。同一时刻一个实例只校验一篇文档，不是线程安全的
+ * <p>
+ * 数据到达一块就 {@link #feed} 一块，返回false说明已经确定非法，可以立即拒绝；
+ * 全部到达后调用 {@link #finish()} 得到结果，{@link #reset()} 之后可以用于下一篇文档
+ */
+public final class JsonStreamValidator {
+    static final int CHUNK_SIZE = 8192;
+
+    private static final int VALUE = 0;         // 期望一个值
+    private static final int ARRAY_FIRST = 1;   // '[' 之后，期望值或 ']'
+    private static final int OBJECT_FIRST = 2;  // '{' 之后，期望键或 '}'
+    private static final int KEY = 3;           // 对象里 ',' 之后，期望键
+    private static final int COLON = 4;         // 键之后，期望 ':'
+    private static final int AFTER_VALUE = 5;   // 值之后，期望 ',' 或结束符
+    private static final int STRING = 6;        // 字符串内部
+    private static final int ESCAPE = 7;        // 反斜杠之后
+    private static final int UNICODE = 8;       // \\u 之后的十六进制位
+    private static final int SURROGATE = 9;     // 高代理的转义之后，期望低代理转义的反斜杠
+    private static final int UTF8 = 10;         // UTF-8 多字节序列的后续字节
+    private static final int LITERAL = 11;      // true/false/null
+    private static final int MINUS = 12;        // 数字的负号之后
+    private static final int ZERO = 13;         // 整数部分是0
+    private static final int INT = 14;          // 整数部分
+    private static final int DOT = 15;          // 小数点之后
+    private static final int FRAC = 16;         // 小数部分
+    private static final int EXP_MARK = 17;     // e/E 之后
+    private static final int EXP_SIGN = 18;     // 指数符号之后
+    private static final int EXP = 19;          // 指数部分
+    private static final int ERROR = 20;
+    // 以下状态只出现在分块模式里，块起点之前打开的那一层类型未知
+    private static final int COMMA_UNKNOWN = 21;    // 未知层里的 ',' 之后，期望键或值
+    private static final int STRING_UNKNOWN = 22;   // 未知层里 ',' 之后的字符串结束，是键还是值取决于之后的字符
+    private static final int STRING_START = 23;     // 块起点所在的字符串结束，是键还是值取决于之后的字符
+
+    private static final byte OBJECT_FRAME = 1;
+    private static final byte ARRAY_FRAME = 2;
+
+    /**
+     * true-输入是UTF-8字节，false-输入是UTF-16字符
+     */
+    private final boolean bytes;
+    /**
+     * 对象和数组的最大嵌套深度
+     */
+    private final int maxDepth;
+    private final long maxDocumentSize;
+    private final int maxStringLength;
+    private final int maxNumberLength;
+    private final int maxMembers;
+    private final boolean validateSurrogates;
+    /**
+     * 已经喂入的字符数
+     */
+    private long size;
+    private int state = VALUE;
+    /**
+     * 嵌套栈，每层一位，1-对象 0-数组
+     */
+    private long[] stack = new long[1];
+    /**
+     * 各层对象已有的成员数，与stack按层对应，不限制成员数时为null
+     */
+    private int[] members;
+    private int depth;
+    /**
+     * 当前字符串结束后进入的状态，键是 COLON，值是 AFTER_VALUE
+     */
+    private int afterString = AFTER_VALUE;
+    private String literal;
+    /**
+     * 字面量、\\uxxxx、UTF-8 序列还差的字符数
+     */
+    private int remaining;
+    /**
+     * UTF-8 序列下一个字节的取值范围
+     */
+    private int min, max;
+    /**
+     * \\u 之后已读的十六进制位拼成的值
+     */
+    private int unit;
+    /**
+     * 上一个转义是高代理，下一个转义必须是低代理
+     */
+    private boolean needLow;
+    /**
+     * 当前字符串开引号的位置，分块模式下相对块起点
+     */
+    private long stringStart;
+    /**
+     * 当前数字已读的字符数
+     */
+    private int numberLength;
+
+    /**
+     * 分块模式下块起点之前打开的各层，下标0是最内层，取值 OBJECT_FRAME、ARRAY_FRAME 或0（类型未知）；
+     * 普通模式下为null
+     */
+    private byte[] below;
+    /**
+     * 块内关闭了起点之前的多少层
+     */
+    private int popped;
+    /**
+     * 块内要求起点之前至少有多少层
+     */
+    private int touched;
+    /**
+     * 块内相对起点的最大嵌套深度
+     */
+    private int peak;
+    /**
+     * 从字符串内部开始时，起点所在字符串的角色：0-未确定，COLON-键，AFTER_VALUE-值
+     */
+    private int startRole;
+    /**
+     * 起点所在字符串的闭引号相对块起点的位置，还没遇到时为-1
+     */
+    private long headClose = -1;
+    /**
+     * 块内在起点之前的各层里遇到的 ',' 个数，与below按下标对应，不限制成员数时为null
+     */
+    private int[] commas;
+
+    /**
+     * 校验UTF-8字节输入
+     */
+    public JsonStreamValidator() {
+        this(true, JsonValidatorConfig.DEFAULT);
+    }
+
+    /**
+     * 校验UTF-8字节输入，检查config里的文档大小、嵌套深度、字符串长度、数字长度、成员数和代理对
+     *
+     * @throws IllegalArgumentException config要求检查重复键（需要记住每层对象的全部键，内存占用不再与文档大小无关），
+     *                                  或设置了数字规则
+     */
+    public JsonStreamValidator(JsonValidatorConfig config) {
+        this(true, config);
+    }
+
+    JsonStreamValidator(boolean bytes, JsonValidatorConfig config) {
+        requireSupported(config);
+        this.bytes = bytes;
+        this.maxDepth = config.maxDepth();
+        this.maxDocumentSize = config.maxDocumentSize();
+        this.maxStringLength = config.maxStringLength();
+        this.maxNumberLength = config.maxNumberLength();
+        this.maxMembers = config.maxMembers();
+        this.validateSurrogates = config.validateSurrogates();
+        if (maxMembers != Integer.MAX_VALUE) members = new int[64];
+    }
+
+    /**
+     * 分块模式，用于从文档中间的 ',' 处开始校验，起点之前打开的层的类型由块内的字符推断，
+     * 之后再由 {@link #append} 与实际状态拼接
+     *
+     * @param inString true-假设起点在字符串内部，false-假设起点在字符串外部，即 ',' 是一个值之后的分隔符
+     */
+    JsonStreamValidator(boolean bytes, JsonValidatorConfig config, boolean inString) {
+        this(bytes, config);
+        this.below = new byte[8];
+        if (maxMembers != Integer.MAX_VALUE) commas = new int[8];
+        if (inString) {
+            state = STRING;
+            afterString = STRING_START;
+        } else {
+            state = AFTER_VALUE;
+        }
+    }
+
+    /**
+     * @return 流式校验是否支持这个配置，重复键和数字规则只有内存校验才检查
+     */
+    static boolean supports(JsonValidatorConfig config) {
+        return !config.rejectDuplicateKeys() && !config.checksNumbers();
+    }
+
+    /**
+     * 流式校验不支持的配置项直接拒绝，免得它们被悄悄忽略
+     */
+    static void requireSupported(JsonValidatorConfig config) {
+        if (config.rejectDuplicateKeys()) {
+            throw new IllegalArgumentException("rejectDuplicateKeys is not supported by stream validation");
+        }
+        if (config.checksNumbers()) {
+            throw new IllegalArgumentException("number rules are not supported by stream validation");
+        }
+    }
+
+    public boolean feed(byte[] buf) {
+        return feed(buf, 0, buf.length);
+    }
+
+    /**
+     * @return false-已经确定非法，后续输入不必再喂
+     */
+    public boolean feed(byte[] buf, int off, int len) {
+        Objects.checkFromIndexSize(off, len, buf.length);
+        long base = size - off;
+        if ((size += len) > maxDocumentSize) state = ERROR;
+        for (int i = off, end = off + len; i < end && state != ERROR; i++) {
+            int c = buf[i] & 0xFF;
+            // 字符串内部的普通字符不改变状态，直接跳过
+            if (state == STRING && c != '"' && c != '\\' && c >= 0x20 && c < 0x80) continue;
+            step(c, base + i);
+        }
+        return fed();
+    }
+
+    /**
+     * 读取 position 到 limit 之间的字节，不会改变buffer的position
+     *
+     * @return false-已经确定非法，后续输入不必再喂
+     */
+    public boolean feed(ByteBuffer buf) {
+        if (buf.hasArray()) {
+            return feed(buf.array(), buf.arrayOffset() + buf.position(), buf.remaining());
+        }
+        long base = size - buf.position();
+        if ((size += buf.remaining()) > maxDocumentSize) state = ERROR;
+        for (int i = buf.position(), end = buf.limit(); i < end && state != ERROR; i++) {
+            int c = buf.get(i) & 0xFF;
+            if (state == STRING && c != '"' && c != '\\' && c >= 0x20 && c < 0x80) continue;
+            step(c, base + i);
+        }
+        return fed();
+    }
+
+    boolean feed(char[] buf, int off, int len) {
+        long base = size - off;
+        if ((size += len) > maxDocumentSize) state = ERROR;
+        for (int i = off, end = off + len; i < end && state != ERROR; i++) {
+            step(buf[i], base + i);
+        }
+        return fed();
+    }
+
+    /**
+     * 一块喂完之后，停在字符串里且已读的内容超长时不必等到闭引号
+     */
+    private boolean fed() {
+        if (state >= STRING && state <= UTF8 && afterString != STRING_START
+                && size - stringStart - 1 > maxStringLength) {
+            state = ERROR;
+        }
+        return state != ERROR;
+    }
+
+    /**
+     * 输入结束，与 {@link JsonValidator#validate(String)} 一致，全空白的输入视为合法
+     */
+    public boolean finish() {
+        switch (state) {
+            case VALUE:
+            case AFTER_VALUE:
+            case ZERO:
+            case INT:
+            case FRAC:
+            case EXP:
+                return depth == 0;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * 清空状态，以便校验下一篇文档，嵌套栈的空间会保留
+     */
+    public void reset() {
+        state = VALUE;
+        depth = 0;
+        size = 0;
+        afterString = AFTER_VALUE;
+        literal = null;
+        remaining = 0;
+        needLow = false;
+    }
+
+    /**
+     * 把紧跟在当前输入之后、从 ',' 处开始的一块拼接上来，out/in 是该块分别假设起点在字符串外部/内部的校验结果。
+     * 根据当前的实际状态选用其中一个，核对它对起点之前各层的推断，再接上它结束时的状态
+     *
+     * @return false-拼接后已经确定非法
+     */
+    boolean append(JsonStreamValidator out, JsonStreamValidator in) {
+        JsonStreamValidator chunk;
+        switch (state) {
+            case STRING:
+                chunk = in;
+                if (chunk.startRole != 0 && chunk.startRole != afterString) chunk = null;
+                break;
+            case AFTER_VALUE:
+            case ZERO:
+            case INT:
+            case FRAC:
+            case EXP:
+                chunk = out;
+                break;
+            default:
+                chunk = null;
+        }
+        if (chunk == null || chunk.state == ERROR || chunk.touched > depth || depth + chunk.peak > maxDepth
+                || chunk == in && chunk.headClose >= 0 && size + chunk.headClose - stringStart - 1 > maxStringLength) {
+            state = ERROR;
+            return false;
+        }
+        for (int k = 0; k < chunk.touched; k++) {
+            int top = depth - 1 - k;
+            byte type = (stack[top >>> 6] & 1L << top) != 0 ? OBJECT_FRAME : ARRAY_FRAME;
+            if (chunk.below[k] != 0 && chunk.below[k] != type
+                    || type == OBJECT_FRAME && members != null && (members[top] += chunk.commas[k]) > maxMembers) {
+                state = ERROR;
+                return false;
+            }
+        }
+        depth -= chunk.popped;
+        boolean object = depth > 0 && (stack[(depth - 1) >>> 6] & 1L << (depth - 1)) != 0;
+        for (int k = 0; k < chunk.depth; k++) {
+            push((chunk.stack[k >>> 6] & 1L << k) != 0);
+            if (members != null) members[depth - 1] = chunk.members[k];
+        }
+
+        // 未知层的状态只出现在块内深度为0时，此时的实际层就是object所指的那一层
+        int after = chunk.afterString;
+        if (after == STRING_UNKNOWN) after = object ? COLON : AFTER_VALUE;
+        else if (after == STRING_START) after = afterString;
+        switch (chunk.state) {
+            case COMMA_UNKNOWN:
+                state = object ? KEY : VALUE;
+                break;
+            case STRING_UNKNOWN:
+                state = object ? COLON : AFTER_VALUE;
+                break;
+            case STRING_START:
+                state = afterString;
+                break;
+            default:
+                state = chunk.state;
+        }
+        // 块内的位置都相对块起点，size此时正是块起点在整篇文档里的位置
+        if (chunk.afterString != STRING_START) stringStart = size + chunk.stringStart;
+        afterString = after;
+        literal = chunk.literal;
+        remaining = chunk.remaining;
+        min = chunk.min;
+        max = chunk.max;
+        unit = chunk.unit;
+        needLow = chunk.needLow;
+        numberLength = chunk.numberLength;
+        size += chunk.size;
+        return fed();
+    }
+
+    /**
+     * @param pos c的位置，用于计算字符串长度
+     */
+    private void step(int c, long pos) {
+        switch (state) {
+            case VALUE:
+                if (!JsonChars.isWhitespace(c)) value(c, pos);
+                break;
+            case ARRAY_FIRST:
+                if (c == ']') {
+                    depth--;
+                    state = AFTER_VALUE;
+                } else if (!JsonChars.isWhitespace(c)) {
+                    value(c, pos);
+                }
+                break;
+            case OBJECT_FIRST:
+                if (c == '}') {
+                    depth--;
+                    state = AFTER_VALUE;
+                } else {
+                    key(c, pos);
+                    if (state == STRING && members != null) {
+                        members[depth - 1] = 1;
+                        if (maxMembers == 0) state = ERROR;
+                    }
+                }
+                break;
+            case KEY:
+                key(c, pos);
+                break;
+            case COLON:
+                if (c == ':') state = VALUE;
+                else if (!JsonChars.isWhitespace(c)) state = ERROR;
+                break;
+            case AFTER_VALUE:
+                afterValue(c);
+                break;
+            case STRING:
+                if (c == '"') {
+                    // 块起点所在的字符串不知道开引号在哪，记下闭引号留到拼接时检查
+                    if (afterString == STRING_START) {
+                        headClose = pos;
+                    } else if (pos - stringStart - 1 > maxStringLength) {
+                        state = ERROR;
+                        break;
+                    }
+                    state = afterString;
+                } else if (c == '\\') {
+                    state = ESCAPE;
+                } else if (c < 0x20) {
+                    state = ERROR;
+                } else if (c >= 0x80 && bytes) {
+                    utf8(c);
+                }
+                break;
+            case ESCAPE:
+                if (c == 'u') {
+                    remaining = 4;
+                    unit = 0;
+                    state = UNICODE;
+                } else {
+                    state = !needLow && JsonChars.is(c, JsonChars.ESCAPE) ? STRING : ERROR;
+                }
+                break;
+            case UNICODE:
+                int hex = JsonChars.hex(c);
+                unit = unit << 4 | hex;
+                if (hex < 0) state = ERROR;
+                else if (--remaining == 0) state = validateSurrogates ? surrogate() : STRING;
+                break;
+            case SURROGATE:
+                state = c == '\\' ? ESCAPE : ERROR;
+                break;
+            case UTF8:
+                if (c < min || c > max) {
+                    state = ERROR;
+                } else {
+                    min = 0x80;
+                    max = 0xBF;
+                    if (--remaining == 0) state = STRING;
+                }
+                break;
+            case LITERAL:
+                if (c != literal.charAt(literal.length() - remaining)) state = ERROR;
+                else if (--remaining == 0) state = AFTER_VALUE;
+                break;
+            case MINUS:
+                if (c == '0') state = ZERO;
+                else state = JsonChars.isDigit(c) ? INT : ERROR;
+                longer();
+                break;
+            case ZERO:
+                fraction(c);
+                break;
+            case INT:
+                if (!JsonChars.isDigit(c)) fraction(c);
+                else longer();
+                break;
+            case DOT:
+                state = JsonChars.isDigit(c) ? FRAC : ERROR;
+                longer();
+                break;
+            case FRAC:
+                if (!JsonChars.isDigit(c)) exponent(c);
+                else longer();
+                break;
+            case EXP_MARK:
+                if (c == '+' || c == '-') state = EXP_SIGN;
+                else state = JsonChars.isDigit(c) ? EXP : ERROR;
+                longer();
+                break;
+            case EXP_SIGN:
+                state = JsonChars.isDigit(c) ? EXP : ERROR;
+                longer();
+                break;
+            case EXP:
+                if (!JsonChars.isDigit(c)) {
+                    state = AFTER_VALUE;
+                    afterValue(c);
+                } else {
+                    longer();
+                }
+                break;
+            case COMMA_UNKNOWN:
+                if (c == '"') {
+                    afterString = STRING_UNKNOWN;
+                    stringStart = pos;
+                    state = STRING;
+                } else if (!JsonChars.isWhitespace(c) && assume(ARRAY_FRAME)) {
+                    value(c, pos);
+                }
+                break;
+            case STRING_UNKNOWN:
+            case STRING_START:
+                if (JsonChars.isWhitespace(c)) break;
+                if (c == ':') {
+                    if (state == STRING_START) startRole = COLON;
+                    if (assume(OBJECT_FRAME)) state = VALUE;
+                } else {
+                    // 字符串是值，未知层里 ',' 之后的值说明该层是数组
+                    if (state == STRING_START) startRole = AFTER_VALUE;
+                    else if (!assume(ARRAY_FRAME)) break;
+                    state = AFTER_VALUE;
+                    afterValue(c);
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void value(int c, long pos) {
+        switch (c) {
+            case '{':
+                state = OBJECT_FIRST;
+                push(true);
+                break;
+            case '[':
+                state = ARRAY_FIRST;
+                push(false);
+                break;
+            case '"':
+                afterString = AFTER_VALUE;
+                stringStart = pos;
+                state = STRING;
+                break;
+            case 't':
+                literal("true");
+                break;
+            case 'f':
+                literal("false");
+                break;
+            case 'n':
+                literal("null");
+                break;
+            case '-':
+                state = MINUS;
+                numberLength = 1;
+                break;
+            case '0':
+                state = ZERO;
+                numberLength = 1;
+                break;
+            default:
+                state = c >= '1' && c <= '9' ? INT : ERROR;
+                numberLength = 1;
+        }
+    }
+
+    private void key(int c, long pos) {
+        if (c == '"') {
+            afterString = COLON;
+            stringStart = pos;
+            state = STRING;
+        } else if (!JsonChars.isWhitespace(c)) {
+            state = ERROR;
+        }
+    }
+
+    private void literal(String text) {
+        literal = text;
+        remaining = text.length() - 1;
+        state = LITERAL;
+    }
+
+    /**
+     * 整数部分之后的字符
+     */
+    private void fraction(int c) {
+        if (c == '.') {
+            state = DOT;
+            longer();
+        } else {
+            exponent(c);
+        }
+    }
+
+    /**
+     * 小数部分之后的字符，不是 e/E 时数字结束，该字符按值之后的字符处理
+     */
+    private void exponent(int c) {
+        if (c == 'e' || c == 'E') {
+            state = EXP_MARK;
+            longer();
+        } else {
+            state = AFTER_VALUE;
+            afterValue(c);
+        }
+    }
+
+    /**
+     * 数字又读了一个字符
+     */
+    private void longer() {
+        if (++numberLength > maxNumberLength) state = ERROR;
+    }
+
+    private void afterValue(int c) {
+        if (JsonChars.isWhitespace(c)) return;
+        if (depth == 0) {
+            if (below == null) state = ERROR;
+            else outer(c);
+            return;
+        }
+        boolean object = (stack[(depth - 1) >>> 6] & 1L << (depth - 1)) != 0;
+        if (c == ',') {
+            state = object ? KEY : VALUE;
+            if (object && members != null && ++members[depth - 1] > maxMembers) state = ERROR;
+        } else if (c == (object ? '}' : ']')) {
+            depth--;
+        } else {
+            state = ERROR;
+        }
+    }
+
+    /**
+     * 分块模式下，起点之前打开的那一层里值之后的字符
+     */
+    private void outer(int c) {
+        if (c == ',') {
+            grow();
+            touched = popped + 1;
+            if (commas != null) commas[popped]++;
+            int type = below[popped];
+            state = type == OBJECT_FRAME ? KEY : type == ARRAY_FRAME ? VALUE : COMMA_UNKNOWN;
+        } else if ((c == '}' || c == ']') && assume(c == '}' ? OBJECT_FRAME : ARRAY_FRAME)) {
+            popped++;
+        } else {
+            state = ERROR;
+        }
+    }
+
+    /**
+     * 推断起点之前当前所在那一层的类型，与之前的推断矛盾时进入ERROR
+     */
+    private boolean assume(byte type) {
+        grow();
+        touched = popped + 1;
+        if (below[popped] != 0 && below[popped] != type) {
+            state = ERROR;
+            return false;
+        }
+        below[popped] = type;
+        return true;
+    }
+
+    private void grow() {
+        if (popped == below.length) {
+            below = Arrays.copyOf(below, below.length << 1);
+            if (commas != null) commas = Arrays.copyOf(commas, below.length);
+        }
+    }
+
+    private void push(boolean object) {
+        if (depth == maxDepth) {
+            state = ERROR;
+            return;
+        }
+        if (depth >>> 6 == stack.length) stack = Arrays.copyOf(stack, stack.length << 1);
+        if (members != null && depth == members.length) members = Arrays.copyOf(members, depth << 1);
+        if (object) stack[depth >>> 6] |= 1L << depth;
+        else stack[depth >>> 6] &= ~(1L << depth);
+        depth++;
+        peak = Math.max(peak, depth - popped);
+    }
+
+    /**
+     * 一个 \\uxxxx 读完之后的状态：高代理后面必须紧跟一个低代理的转义，低代理不能单独出现
+     */
+    private int surrogate() {
+        boolean low = (unit & 0xFC00) == 0xDC00;
+        if (needLow) {
+            needLow = false;
+            return low ? STRING : ERROR;
+        }
+        if (low) return ERROR;
+        needLow = (unit & 0xFC00) == 0xD800;
+        return needLow ? SURROGATE : STRING;
+    }
+
+    private void utf8(int lead) {
+        min = 0x80;
+        max = 0xBF;
+        if (lead >= 0xC2 && lead <= 0xDF) {
+            remaining = 1;
+        } else if (lead >= 0xE0 && lead <= 0xEF) {
+            remaining = 2;
+            if (lead == 0xE0) min = 0xA0;      // 过长编码
+            else if (lead == 0xED) max = 0x9F; // 代理区 U+D800..U+DFFF
+        } else if (lead >= 0xF0 && lead <= 0xF4) {
+            remaining = 3;
+            if (lead == 0xF0) min = 0x90;      // 过长编码
+            else if (lead == 0xF4) max = 0x8F; // 超出 U+10FFFF
+        } else {
+            state = ERROR;
+            return;
+        }
+        state = UTF8;
+    }
+}
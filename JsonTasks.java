@@ -0,0 +1,30 @@
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * @describe 几个并行校验器共用的线程池辅助方法
+ */
+final class JsonTasks {
+    private JsonTasks() {
+    }
+
+    /**
+     * @return 线程池的并行度，不是 {@link ForkJoinPool} 时按CPU核数算
+     */
+    static int parallelism(Executor executor) {
+        return executor instanceof ForkJoinPool
+                ? ((ForkJoinPool) executor).getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * 取出任务里抛出的异常，调用方写成 {@code throw JsonTasks.unwrap(e)}；Error直接抛出，受检异常保持包装
+     */
+    static RuntimeException unwrap(CompletionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException) return (RuntimeException) cause;
+        if (cause instanceof Error) throw (Error) cause;
+        return e;
+    }
+}
@@ -1,18 +1,151 @@
-import java.text.CharacterIterator;
-import java.text.StringCharacterIterator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Optional;
 
 /**
  * @author wjun
  * @date 2022/6/6 16:55
  * @email wjunjobs@outlook.com
- * @describe 校验json格式是否合法
+ * @describe 校验json格式是否合法，实例不持有任何解析状态，可以在多个线程间共享
+ * <p>
+ * 扫描方法里的 in 是输入本身：String 按字符读；byte[] 和 ByteBuffer 按UTF-8字节读，
+ * 下标就是数组/缓冲区里的绝对下标，[i, end) 为待校验区间。不带schema时，校验成功的路径上不分配任何对象
+ * <p>
+ * 带 {@link JsonSchema} 时，扫描到值、键和容器边界就交给schema的游标检查，语法和结构在同一遍扫描里校验
+ * <p>
+ * 对象和数组的嵌套用显式的位栈记录，不做递归，嵌套再深也不会栈溢出，超过最大深度直接判为非法
  */
-public class JsonValidator {
-    private CharacterIterator it;
-    private char c;
-    private int col;
+public final class JsonValidator {
+    /**
+     * 越过输入末尾时 {@link #at(Object, int, int)} 的返回值
+     */
+    private static final int EOF = -1;
+    /**
+     * 各个扫描方法返回下一个待读的下标，失败时返回该值
+     */
+    private static final int FAIL = -1;
+    /**
+     * 默认的最大嵌套深度
+     */
+    public static final int DEFAULT_MAX_DEPTH = 1024;
+    /**
+     * 超过2GB的文件每次映射的字节数
+     */
+    static final long MAP_WINDOW = 1L << 30;
+    /**
+     * 错误上下文取出错位置前后各多少个字符
+     */
+    private static final int SNIPPET = 20;
+    /**
+     * 按小端序从byte[]里读8个字节，字符串内容每次判断8个字节
+     */
+    private static final VarHandle LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final long ONES = 0x0101010101010101L;
+    private static final long HIGHS = 0x8080808080808080L;
+    private static final long SPACES = 0x2020202020202020L;
+    /**
+     * {@link #checkedNumber} 累计的有效数字到了19位（不小于10^18）后不再累计
+     */
+    private static final long SIGNIFICAND_LIMIT = 1_000_000_000_000_000_000L;
+    /**
+     * 5^0~5^27，5^28已超出long
+     */
+    private static final long[] POW5 = new long[28];
+    /**
+     * double能精确表示的最大奇数
+     */
+    private static final long MAX_EXACT = (1L << 53) - 1;
+    /**
+     * {@link #checkedNumber} 里丢掉过非0数字的标记
+     */
+    private static final int NON_ZERO_DROPPED = -1;
+    /**
+     * 重复键散列表里一个键最多探测的槽位数，超过后这一层改用 {@link HashSet}
+     */
+    private static final int MAX_KEY_PROBES = 16;
+
+    static {
+        POW5[0] = 1;
+        for (int k = 1; k < POW5.length; k++) POW5[k] = POW5[k - 1] * 5;
+    }
+
+    private final JsonValidatorConfig config;
+    // 扫描时用到的限制项，从config里展开
+    private final long maxDocumentSize;
+    private final int maxDepth;
+    private final int maxStringLength;
+    private final int maxNumberLength;
+    private final int maxMembers;
+    private final boolean rejectDuplicateKeys;
+    /**
+     * 重复键散列的种子，每个实例随机生成，输入无法预先构造出大量散列相同的键
+     */
+    private final long keySeed;
+    private final boolean validateSurrogates;
+    private final boolean requireInteger;
+    private final boolean requireLong;
+    private final boolean requireExactDouble;
+    private final int maxNumberDigits;
+    private final int maxNumberExponent;
+    /**
+     * 设置了数字规则时走 {@link #checkedNumber}，否则走只检查语法的 {@link #number}
+     */
+    private final boolean checkNumbers;
+    /**
+     * 只有 {@link #diagnose} 内部临时创建的实例不为null，共享的实例不持有任何状态
+     */
+    private final Failure failure;
 
     public JsonValidator() {
+        this(JsonValidatorConfig.DEFAULT);
+    }
+
+    /**
+     * @param maxDepth 对象和数组的最大嵌套深度，超过时校验失败；每层只占一个bit
+     */
+    public JsonValidator(int maxDepth) {
+        this(JsonValidatorConfig.builder().maxDepth(maxDepth).build());
+    }
+
+    public JsonValidator(JsonValidatorConfig config) {
+        this(config, null, config.rejectDuplicateKeys() ? new SecureRandom().nextLong() : 0);
+    }
+
+    private JsonValidator(JsonValidatorConfig config, Failure failure, long keySeed) {
+        this.config = config;
+        this.maxDocumentSize = config.maxDocumentSize();
+        this.maxDepth = config.maxDepth();
+        this.maxStringLength = config.maxStringLength();
+        this.maxNumberLength = config.maxNumberLength();
+        this.maxMembers = config.maxMembers();
+        this.rejectDuplicateKeys = config.rejectDuplicateKeys();
+        this.keySeed = keySeed;
+        this.validateSurrogates = config.validateSurrogates();
+        this.requireInteger = config.requireInteger();
+        this.requireLong = config.requireLong();
+        this.requireExactDouble = config.requireExactDouble();
+        this.maxNumberDigits = config.maxNumberDigits();
+        this.maxNumberExponent = config.maxNumberExponent();
+        this.checkNumbers = config.checksNumbers();
+        this.failure = failure;
+    }
+
+    JsonValidatorConfig config() {
+        return config;
     }
 
     /**
@@ -22,1021 +155,1071 @@ public class JsonValidator {
      * @return true-合法 ，false-非法
      */
     public boolean validate(String input) {
-        input = input.trim();
-        return valid(input);
+        return validate(input, null);
     }
 
-    private boolean valid(String input) {
-        if ("".equals(input)) return true;
+    /**
+     * 验证一个字符串是否是合法的JSON串，并且符合schema，两者在同一遍扫描里完成
+     *
+     * @param input  要验证的字符串
+     * @param schema 编译后的schema，为null时只校验语法
+     * @return true-合法 ，false-非法
+     */
+    public boolean validate(String input, JsonSchema schema) {
+        return valid(input, 0, input.length(), schema, null);
+    }
 
-        boolean ret = true;
-        it = new StringCharacterIterator(input);
-        c = it.first();
-        col = 1;
-        if (!value()) {
-            ret = error("value", 1);
-        } else {
-            skipWhiteSpace();
-            if (c != CharacterIterator.DONE) {
-                ret = error("end", col);
-            }
+    /**
+     * 验证一段UTF-8字节是否是合法的JSON串，直接在字节上校验，不解码为String
+     *
+     * @param buf 字节数组
+     * @param off 起始下标
+     * @param len 长度
+     * @return true-合法 ，false-非法
+     */
+    public boolean validate(byte[] buf, int off, int len) {
+        return validate(buf, off, len, null);
+    }
+
+    /**
+     * 同 {@link #validate(String, JsonSchema)}，直接在UTF-8字节上校验
+     */
+    public boolean validate(byte[] buf, int off, int len, JsonSchema schema) {
+        Objects.checkFromIndexSize(off, len, buf.length);
+        return valid(buf, off, off + len, schema, null);
+    }
+
+    /**
+     * 验证ByteBuffer中 position 到 limit 之间的UTF-8字节是否是合法的JSON串，不会改变buffer的position
+     *
+     * @param buf 字节缓冲区，堆内外均可
+     * @return true-合法 ，false-非法
+     */
+    public boolean validate(ByteBuffer buf) {
+        return validate(buf, null);
+    }
+
+    /**
+     * 同 {@link #validate(String, JsonSchema)}，校验 position 到 limit 之间的UTF-8字节，不会改变buffer的position
+     */
+    public boolean validate(ByteBuffer buf, JsonSchema schema) {
+        if (buf.hasArray()) {
+            return validate(buf.array(), buf.arrayOffset() + buf.position(), buf.remaining(), schema);
         }
+        return valid(buf, buf.position(), buf.limit(), schema, null);
+    }
 
-        return ret;
+    /**
+     * 按 {@value JsonStreamValidator#CHUNK_SIZE} 字节一块读取UTF-8输入流并校验，内存占用与文档大小无关，
+     * 一旦确定非法立即返回，不再读取剩余内容，也不会关闭流
+     *
+     * @param in UTF-8编码的输入流
+     * @return true-合法 ，false-非法
+     * @throws IllegalArgumentException 配置要求检查重复键或设置了数字规则，流式校验做不到
+     */
+    public boolean validate(InputStream in) throws IOException {
+        JsonStreamValidator stream = new JsonStreamValidator(true, config);
+        byte[] buf = new byte[JsonStreamValidator.CHUNK_SIZE];
+        for (int n; (n = in.read(buf)) != -1; ) {
+            if (!stream.feed(buf, 0, n)) return false;
+        }
+        return stream.finish();
     }
 
-    private boolean value() {
-        return literal("true") || literal("false") || literal("null") || string() || number() || object() || array();
+    /**
+     * 同 {@link #validate(InputStream)}，按字符分块读取
+     *
+     * @param in 字符输入流
+     * @return true-合法 ，false-非法
+     * @throws IllegalArgumentException 同上
+     */
+    public boolean validate(Reader in) throws IOException {
+        JsonStreamValidator stream = new JsonStreamValidator(false, config);
+        char[] buf = new char[JsonStreamValidator.CHUNK_SIZE];
+        for (int n; (n = in.read(buf)) != -1; ) {
+            if (!stream.feed(buf, 0, n)) return false;
+        }
+        return stream.finish();
     }
 
-    private boolean literal(String text) {
-        CharacterIterator ci = new StringCharacterIterator(text);
-        char t = ci.first();
-        if (c != t) return false;
+    /**
+     * 同 {@link #validate(InputStream)}，从通道分块读取UTF-8字节
+     *
+     * @param in 字节通道，非阻塞通道暂时无数据时会反复读取
+     * @return true-合法 ，false-非法
+     * @throws IllegalArgumentException 同上
+     */
+    public boolean validate(ReadableByteChannel in) throws IOException {
+        JsonStreamValidator stream = new JsonStreamValidator(true, config);
+        ByteBuffer buf = ByteBuffer.allocate(JsonStreamValidator.CHUNK_SIZE);
+        while (in.read(buf) != -1) {
+            if (!stream.feed(buf.array(), 0, buf.position())) return false;
+            buf.clear();
+        }
+        return stream.finish();
+    }
 
-        int start = col;
-        boolean ret = true;
-        for (t = ci.next(); t != CharacterIterator.DONE; t = ci.next()) {
-            if (t != nextCharacter()) {
-                ret = false;
-                break;
+    /**
+     * 把文件映射到内存后直接在映射区上校验，不读入堆内缓冲区，也不解码成字符串。
+     * 不超过2GB的文件一次映射整个文件；更大的文件按 {@value #MAP_WINDOW} 字节一个窗口依次映射，
+     * 窗口之间的扫描进度由 {@link JsonStreamValidator} 保存
+     *
+     * @param path UTF-8编码的json文件
+     * @return true-合法 ，false-非法
+     * @throws IllegalArgumentException 文件超过2GB而配置要求检查重复键或设置了数字规则，流式校验做不到
+     */
+    public boolean validateFile(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) JsonStreamValidator.requireSupported(config);
+            if (size > maxDocumentSize) return false;
+            if (size <= Integer.MAX_VALUE) {
+                return validate(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+            }
+            JsonStreamValidator stream = new JsonStreamValidator(true, config);
+            for (long pos = 0; pos < size; pos += MAP_WINDOW) {
+                long len = Math.min(MAP_WINDOW, size - pos);
+                if (!stream.feed(channel.map(FileChannel.MapMode.READ_ONLY, pos, len))) return false;
             }
+            return stream.finish();
         }
-        nextCharacter();
-        if (!ret) error("literal " + text, start);
-        return ret;
     }
 
-    private boolean array() {
-        return aggregate('[', ']', false);
+    /**
+     * 与 {@link #validate(String)} 相同，非法时给出位置和原因。合法输入只走一遍快速路径，
+     * 非法时再扫描一遍定位错误，只需要布尔结果时直接用 validate
+     *
+     * @return 合法时为空
+     */
+    public Optional<JsonError> diagnose(String input) {
+        return diagnose(input, null);
     }
 
-    private boolean object() {
-        return aggregate('{', '}', true);
+    /**
+     * 与 {@link #validate(String, JsonSchema)} 相同，非法或不符合schema时给出位置和原因
+     *
+     * @return 合法时为空
+     */
+    public Optional<JsonError> diagnose(String input, JsonSchema schema) {
+        if (validate(input, schema)) return Optional.empty();
+        return Optional.of(locate(input, 0, input.length(), schema));
     }
 
-    private boolean aggregate(char entryCharacter, char exitCharacter, boolean prefix) {
-        if (c != entryCharacter) return false;
-        nextCharacter();
-        skipWhiteSpace();
-        if (c == exitCharacter) {
-            nextCharacter();
-            return true;
+    /**
+     * 同 {@link #diagnose(String)}，偏移按字节计
+     */
+    public Optional<JsonError> diagnose(byte[] buf, int off, int len) {
+        return diagnose(buf, off, len, null);
+    }
+
+    /**
+     * 同 {@link #diagnose(String, JsonSchema)}，偏移按字节计
+     */
+    public Optional<JsonError> diagnose(byte[] buf, int off, int len, JsonSchema schema) {
+        if (validate(buf, off, len, schema)) return Optional.empty();
+        return Optional.of(locate(buf, off, off + len, schema));
+    }
+
+    /**
+     * 同 {@link #diagnose(String)}，偏移按字节计，相对 position，不会改变buffer的position
+     */
+    public Optional<JsonError> diagnose(ByteBuffer buf) {
+        return diagnose(buf, null);
+    }
+
+    /**
+     * 同 {@link #diagnose(String, JsonSchema)}，偏移按字节计，相对 position，不会改变buffer的position
+     */
+    public Optional<JsonError> diagnose(ByteBuffer buf, JsonSchema schema) {
+        if (buf.hasArray()) {
+            return diagnose(buf.array(), buf.arrayOffset() + buf.position(), buf.remaining(), schema);
+        }
+        if (validate(buf, schema)) return Optional.empty();
+        return Optional.of(locate(buf, buf.position(), buf.limit(), schema));
+    }
+
+    /**
+     * 校验的同时生成结构索引，合法时下游可以直接按索引访问输入，不必再解析一遍，见 {@link JsonIndex}
+     *
+     * @return 非法时为空
+     * @throws IllegalArgumentException 输入超过 JsonIndex 能表示的长度
+     */
+    public Optional<JsonIndex> index(String input) {
+        return buildIndex(input, 0, input.length());
+    }
+
+    /**
+     * 同 {@link #index(String)}，偏移按字节计
+     */
+    public Optional<JsonIndex> index(byte[] buf, int off, int len) {
+        Objects.checkFromIndexSize(off, len, buf.length);
+        return buildIndex(buf, off, off + len);
+    }
+
+    /**
+     * 同 {@link #index(String)}，偏移按字节计，相对 position，不会改变buffer的position
+     */
+    public Optional<JsonIndex> index(ByteBuffer buf) {
+        if (buf.hasArray()) {
+            return index(buf.array(), buf.arrayOffset() + buf.position(), buf.remaining());
         }
+        return buildIndex(buf, buf.position(), buf.limit());
+    }
+
+    private Optional<JsonIndex> buildIndex(Object in, int start, int end) {
+        if (end - start > JsonIndex.MAX_INPUT && end - start <= maxDocumentSize) {
+            throw new IllegalArgumentException("input too large to index: " + (end - start));
+        }
+        JsonIndex.Tape tape = new JsonIndex.Tape(start, end - start);
+        return valid(in, start, end, null, tape) ? Optional.of(tape.finish(in, end)) : Optional.empty();
+    }
+
+    /**
+     * 用一个记录错误的临时实例重新扫描 [start, end)，再据此算出行列号和上下文
+     */
+    private JsonError locate(Object in, int start, int end, JsonSchema schema) {
+        Failure failure = new Failure();
+        new JsonValidator(config, failure, keySeed).valid(in, start, end, schema, null);
+        int pos = failure.pos;
 
+        int line = 1, column = 1;
+        for (int i = start; i < pos; i++) {
+            int c = at(in, i, end);
+            if (c == '\n') {
+                line++;
+                column = 1;
+            } else if (in instanceof String || (c & 0xC0) != 0x80) {
+                column++;
+            }
+        }
+
+        int from = Math.max(start, pos - SNIPPET), to = Math.min(end, pos + SNIPPET);
+        String snippet;
+        if (in instanceof String) {
+            snippet = ((String) in).substring(from, to);
+        } else {
+            byte[] bytes = new byte[to - from];
+            for (int i = from; i < to; i++) bytes[i - from] = (byte) at(in, i, end);
+            snippet = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return new JsonError(failure.kind, pos - start, line, column, snippet);
+    }
+
+    /**
+     * @param schema 为null时只校验语法；否则每读完一个值、键或容器边界就交给它的游标检查一次
+     * @param tape   不为null时把每个记号追加进去，输入非法时其内容无意义
+     */
+    private boolean valid(Object in, int i, int end, JsonSchema schema, JsonIndex.Tape tape) {
+        if (end - i > maxDocumentSize) {
+            error(JsonError.Kind.DOCUMENT_SIZE, (int) (i + maxDocumentSize));
+            return false;
+        }
+        i = skipWhiteSpace(in, i, end);
+        if (i == end) return true;
+
+        // 嵌套栈，每层一位，1-对象 0-数组；前64层放在frames里，更深的放在deep里
+        long frames = 0;
+        long[] deep = null;
+        int depth = 0;
+        // 各层对象已有的成员数，只在限制了成员数时才分配
+        int[] members = null;
+        // 各层对象已出现的键，只在拒绝重复键时才分配
+        Keys keys = rejectDuplicateKeys ? new Keys(keySeed) : null;
+        JsonSchema.Cursor cursor = schema == null ? null : new JsonSchema.Cursor(schema);
+        JsonError.Kind mismatch;
         for (; ; ) {
-            if (prefix) {
-                int start = col;
-                if (!string()) return error("string", start);
-                skipWhiteSpace();
-                if (c != ':') return error("colon", col);
-                nextCharacter();
-                skipWhiteSpace();
+            // 期望一个值
+            int c = at(in, i, end);
+            if (c == '{' || c == '[') {
+                if (depth == maxDepth) {
+                    error(JsonError.Kind.DEPTH, i);
+                    return false;
+                }
+                boolean object = c == '{';
+                if (cursor != null && (mismatch = cursor.open(object)) != null) {
+                    error(mismatch, i);
+                    return false;
+                }
+                if (depth < 64) {
+                    frames = object ? frames | 1L << depth : frames & ~(1L << depth);
+                } else {
+                    deep = push(deep, depth - 64, object);
+                }
+                if (tape != null) tape.open(object, i);
+                depth++;
+                i = skipWhiteSpace(in, i + 1, end);
+                if (at(in, i, end) != (object ? '}' : ']')) {
+                    if (object) {
+                        if (maxMembers != Integer.MAX_VALUE) {
+                            if (members == null || depth > members.length) {
+                                members = members == null ? new int[16] : Arrays.copyOf(members, members.length << 1);
+                            }
+                            members[depth - 1] = 1;
+                            if (maxMembers == 0) {
+                                error(JsonError.Kind.MEMBERS, i);
+                                return false;
+                            }
+                        }
+                        int key = i;
+                        if ((i = member(in, i, end, tape)) < 0) return false;
+                        if (keys != null && !keys.first(depth - 1, in, key, end)) {
+                            error(JsonError.Kind.DUPLICATE_KEY, key);
+                            return false;
+                        }
+                        if (cursor != null && (mismatch = cursor.key(in, key, end)) != null) {
+                            error(mismatch, key);
+                            return false;
+                        }
+                    } else if (cursor != null && (mismatch = cursor.element()) != null) {
+                        error(mismatch, i);
+                        return false;
+                    }
+                    continue;
+                }
+                if (cursor != null && (mismatch = cursor.close()) != null) {
+                    error(mismatch, i);
+                    return false;
+                }
+                if (tape != null) tape.close(i);
+                i++;
+                depth--;
+            } else {
+                int start = i;
+                if ((i = scalar(in, i, end, c)) < 0) return false;
+                if (cursor != null && (mismatch = cursor.scalar(in, start, i, c)) != null) {
+                    error(mismatch, start);
+                    return false;
+                }
+                if (tape != null) tape.scalar(c, start, i);
             }
-            if (value()) {
-                skipWhiteSpace();
+
+            // 值之后，逐层处理结束符，直到遇到逗号后的下一个值
+            for (; ; ) {
+                i = skipWhiteSpace(in, i, end);
+                if (depth == 0) {
+                    if (i == end) return true;
+                    error(JsonError.Kind.END, i);
+                    return false;
+                }
+                int top = depth - 1;
+                boolean object = top < 64 ? (frames & 1L << top) != 0 : (deep[(top - 64) >>> 6] & 1L << top) != 0;
+                c = at(in, i, end);
                 if (c == ',') {
-                    nextCharacter();
-                } else if (c == exitCharacter) {
+                    i = skipWhiteSpace(in, i + 1, end);
+                    if (object) {
+                        if (maxMembers != Integer.MAX_VALUE && ++members[top] > maxMembers) {
+                            error(JsonError.Kind.MEMBERS, i);
+                            return false;
+                        }
+                        int key = i;
+                        if ((i = member(in, i, end, tape)) < 0) return false;
+                        if (keys != null && !keys.add(top, in, key, end)) {
+                            error(JsonError.Kind.DUPLICATE_KEY, key);
+                            return false;
+                        }
+                        if (cursor != null && (mismatch = cursor.key(in, key, end)) != null) {
+                            error(mismatch, key);
+                            return false;
+                        }
+                    } else if (cursor != null && (mismatch = cursor.element()) != null) {
+                        error(mismatch, i);
+                        return false;
+                    }
                     break;
-                } else {
-                    return error("comma or " + exitCharacter, col);
                 }
-            } else {
-                return error("value", col);
+                if (c != (object ? '}' : ']')) {
+                    error(object ? JsonError.Kind.COMMA_OR_OBJECT_END : JsonError.Kind.COMMA_OR_ARRAY_END, i);
+                    return false;
+                }
+                if (cursor != null && (mismatch = cursor.close()) != null) {
+                    error(mismatch, i);
+                    return false;
+                }
+                if (tape != null) tape.close(i);
+                i++;
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * 在第64层以后的栈里记下第index层的类型，空间不够时扩容
+     */
+    private static long[] push(long[] deep, int index, boolean object) {
+        if (deep == null) {
+            deep = new long[4];
+        } else if (index >>> 6 == deep.length) {
+            deep = Arrays.copyOf(deep, deep.length << 1);
+        }
+        if (object) deep[index >>> 6] |= 1L << index;
+        else deep[index >>> 6] &= ~(1L << index);
+        return deep;
+    }
+
+    /**
+     * 按首字符分派到字符串、字面量或数字，容器由 {@link #valid} 处理
+     */
+    private int scalar(Object in, int i, int end, int c) {
+        switch (c) {
+            case '"':
+                return string(in, i, end);
+            case 't':
+                return literal(in, i, end, "true");
+            case 'f':
+                return literal(in, i, end, "false");
+            case 'n':
+                return literal(in, i, end, "null");
+            case '-':
+            case '0':
+            case '1':
+            case '2':
+            case '3':
+            case '4':
+            case '5':
+            case '6':
+            case '7':
+            case '8':
+            case '9':
+                return checkNumbers ? checkedNumber(in, i, end) : number(in, i, end);
+            default:
+                return error(JsonError.Kind.VALUE, i);
+        }
+    }
+
+    /**
+     * 对象成员的键和冒号，返回值的起始下标
+     */
+    private int member(Object in, int i, int end, JsonIndex.Tape tape) {
+        int start = i;
+        if ((i = string(in, i, end)) < 0) return error(JsonError.Kind.KEY, start);
+        if (tape != null) tape.key(start, i);
+        i = skipWhiteSpace(in, i, end);
+        if (at(in, i, end) != ':') return error(JsonError.Kind.COLON, i);
+        return skipWhiteSpace(in, i + 1, end);
+    }
+
+    private int literal(Object in, int i, int end, String text) {
+        int n = text.length();
+        for (int k = 1; k < n; k++) {
+            if (at(in, i + k, end) != text.charAt(k)) {
+                return error(JsonError.Kind.LITERAL, i + k);
             }
-            skipWhiteSpace();
         }
+        return i + n;
+    }
 
-        nextCharacter();
-        return true;
+    /**
+     * 只读到 maxNumberLength 个字符为止，超长的数字在越界处就失败，不会读完。
+     * 字节输入交给 {@link #number(byte[], int, int)}，逐字符经过 {@link #at} 的类型判断在数字密集的文档上要慢两成；
+     * String输入的耗时在数字段里，由 {@link #digits} 按类型直接比较
+     */
+    private int number(Object in, int i, int end) {
+        if (in instanceof byte[]) return number((byte[]) in, i, end);
+        int stop = end - i > maxNumberLength ? i + maxNumberLength : end;
+        int c = at(in, i, stop);
+        if (c == '-') c = at(in, ++i, stop);
+        if (c == '0') {
+            c = at(in, ++i, stop);
+        } else if (JsonChars.isDigit(c)) {
+            c = at(in, i = digits(in, i + 1, stop), stop);
+        } else {
+            return numberError(i, stop, end);
+        }
+        if (c == '.') {
+            c = at(in, ++i, stop);
+            if (!JsonChars.isDigit(c)) return numberError(i, stop, end);
+            c = at(in, i = digits(in, i + 1, stop), stop);
+        }
+        if (c == 'e' || c == 'E') {
+            c = at(in, ++i, stop);
+            if (c == '+' || c == '-') c = at(in, ++i, stop);
+            if (!JsonChars.isDigit(c)) return numberError(i, stop, end);
+            c = at(in, i = digits(in, i + 1, stop), stop);
+        }
+        if (i == stop && stop < end && JsonChars.is(at(in, stop, end), JsonChars.NUMBER)) {
+            return error(JsonError.Kind.NUMBER_LENGTH, stop);
+        }
+        return i;
     }
 
-    private boolean number() {
-        if (!Character.isDigit(c) && c != '-') return false;
-        int start = col;
-        if (c == '-') nextCharacter();
+    private int number(byte[] in, int i, int end) {
+        int stop = end - i > maxNumberLength ? i + maxNumberLength : end;
+        int c = i < stop ? in[i] : EOF;
+        if (c == '-') c = ++i < stop ? in[i] : EOF;
         if (c == '0') {
-            nextCharacter();
-        } else if (Character.isDigit(c)) {
-            while (Character.isDigit(c))
-                nextCharacter();
+            c = ++i < stop ? in[i] : EOF;
+        } else if (JsonChars.isDigit(c)) {
+            do c = ++i < stop ? in[i] : EOF; while (JsonChars.isDigit(c));
         } else {
-            return error("number", start);
+            return numberError(i, stop, end);
         }
         if (c == '.') {
-            nextCharacter();
-            if (Character.isDigit(c)) {
-                while (Character.isDigit(c))
-                    nextCharacter();
-            } else {
-                return error("number", start);
-            }
+            c = ++i < stop ? in[i] : EOF;
+            if (!JsonChars.isDigit(c)) return numberError(i, stop, end);
+            do c = ++i < stop ? in[i] : EOF; while (JsonChars.isDigit(c));
+        }
+        if (c == 'e' || c == 'E') {
+            c = ++i < stop ? in[i] : EOF;
+            if (c == '+' || c == '-') c = ++i < stop ? in[i] : EOF;
+            if (!JsonChars.isDigit(c)) return numberError(i, stop, end);
+            do c = ++i < stop ? in[i] : EOF; while (JsonChars.isDigit(c));
         }
+        if (i == stop && stop < end && JsonChars.is(in[stop] & 0xFF, JsonChars.NUMBER)) {
+            return error(JsonError.Kind.NUMBER_LENGTH, stop);
+        }
+        return i;
+    }
+
+    /**
+     * 跳过从i开始的一段数字，返回第一个不是数字的下标，都是数字时返回stop
+     */
+    private static int digits(Object in, int i, int stop) {
+        if (in instanceof String) {
+            String s = (String) in;
+            while (i < stop && JsonChars.isDigit(s.charAt(i))) i++;
+        } else {
+            while (JsonChars.isDigit(at(in, i, stop))) i++;
+        }
+        return i;
+    }
+
+    /**
+     * 同 {@link #number}，在同一遍扫描里顺带累计有效数字和指数，检查配置的数字规则，不创建任何对象。
+     * 违反规则时错误位置在数字开头
+     */
+    private int checkedNumber(Object in, int i, int end) {
+        int start = i;
+        int stop = end - i > maxNumberLength ? i + maxNumberLength : end;
+        int c = at(in, i, stop);
+        boolean negative = c == '-';
+        if (negative) c = at(in, ++i, stop);
+        // 整数和小数部分的数字依次累计到m里（按无符号数），m到了19位之后的数字丢掉并计入dropped，
+        // 丢掉的都是0时值等于 m * 10^(dropped - 小数位数 + 指数)，否则记为 NON_ZERO_DROPPED
+        long m = 0;
+        int dropped = 0;
+        int digits = i;
+        if (c == '0') {
+            c = at(in, ++i, stop);
+        } else if (JsonChars.isDigit(c)) {
+            do {
+                if (Long.compareUnsigned(m, SIGNIFICAND_LIMIT) < 0) m = m * 10 + c - '0';
+                else dropped = drop(dropped, c);
+                c = at(in, ++i, stop);
+            } while (JsonChars.isDigit(c));
+        } else {
+            return numberError(i, stop, end);
+        }
+        digits = i - digits;
+        int fraction = 0;
+        if (c == '.') {
+            int from = ++i;
+            c = at(in, i, stop);
+            if (!JsonChars.isDigit(c)) return numberError(i, stop, end);
+            do {
+                if (Long.compareUnsigned(m, SIGNIFICAND_LIMIT) < 0) m = m * 10 + c - '0';
+                else dropped = drop(dropped, c);
+                c = at(in, ++i, stop);
+            } while (JsonChars.isDigit(c));
+            fraction = i - from;
+            digits += fraction;
+        }
+        // 指数，绝对值超过int范围后不再增长
+        long exponent = 0;
+        boolean negativeExponent = false;
+        boolean integer = fraction == 0;
         if (c == 'e' || c == 'E') {
-            nextCharacter();
-            if (c == '+' || c == '-') {
-                nextCharacter();
+            integer = false;
+            c = at(in, ++i, stop);
+            negativeExponent = c == '-';
+            if (c == '+' || c == '-') c = at(in, ++i, stop);
+            if (!JsonChars.isDigit(c)) return numberError(i, stop, end);
+            do {
+                exponent = Math.min(exponent * 10 + c - '0', Integer.MAX_VALUE);
+                c = at(in, ++i, stop);
+            } while (JsonChars.isDigit(c));
+        }
+        if (i == stop && stop < end && JsonChars.is(at(in, stop, end), JsonChars.NUMBER)) {
+            return error(JsonError.Kind.NUMBER_LENGTH, stop);
+        }
+
+        if ((requireInteger || requireLong) && !integer) return error(JsonError.Kind.NUMBER_INTEGER, start);
+        if (digits > maxNumberDigits) return error(JsonError.Kind.NUMBER_DIGITS, start);
+        if (exponent > maxNumberExponent) return error(JsonError.Kind.NUMBER_EXPONENT, start);
+        // 整数有19位以上数字时至少是10^19，超出long范围
+        if (requireLong && (dropped != 0
+                || Long.compareUnsigned(m, negative ? Long.MIN_VALUE : Long.MAX_VALUE) > 0)) {
+            return error(JsonError.Kind.NUMBER_RANGE, start);
+        }
+        if (requireExactDouble && (dropped == NON_ZERO_DROPPED
+                || !exactDouble(m, (long) dropped - fraction + (negativeExponent ? -exponent : exponent)))) {
+            return error(JsonError.Kind.NUMBER_PRECISION, start);
+        }
+        return i;
+    }
+
+    /**
+     * 丢掉一位数字c后的dropped，丢掉过非0的数字后一直是 {@link #NON_ZERO_DROPPED}
+     */
+    private static int drop(int dropped, int c) {
+        return c != '0' || dropped == NON_ZERO_DROPPED ? NON_ZERO_DROPPED : dropped + 1;
+    }
+
+    /**
+     * 不超过19位的 m * 10^e 能否用double精确表示：写成 奇数q * 2^t 后，q不超过53位即可，数量级总在double范围内
+     */
+    private static boolean exactDouble(long m, long e) {
+        if (m == 0) return true;
+        long q = m >>> Long.numberOfTrailingZeros(m);
+        if (e >= 0) {
+            // 10^e = 2^e * 5^e，5^e 并入奇数部分
+            return e < 23 && Long.compareUnsigned(q, MAX_EXACT / POW5[(int) e]) <= 0;
+        }
+        // 除以 10^k 要求奇数部分能被 5^k 整除，q < 2^64 时k最多为27
+        if (e < -27) return false;
+        long p = POW5[(int) -e];
+        return Long.remainderUnsigned(q, p) == 0 && Long.compareUnsigned(Long.divideUnsigned(q, p), MAX_EXACT) <= 0;
+    }
+
+    /**
+     * 数字在i处非法；i落在长度上限处时，是因为数字太长
+     */
+    private int numberError(int i, int stop, int end) {
+        return error(i == stop && stop < end ? JsonError.Kind.NUMBER_LENGTH : JsonError.Kind.NUMBER, i);
+    }
+
+    /**
+     * String输入直接交给 {@link #string(String, int, int)}，字节输入在这里还要检查UTF-8
+     */
+    private int string(Object in, int i, int end) {
+        if (in instanceof String) return string((String) in, i, end);
+        if (at(in, i, end) != '"') return FAIL;
+
+        int start = i;
+        // 内容最多 maxStringLength 个字符，闭引号最晚出现在 stop - 1 处
+        boolean limited = end - start - 1 > maxStringLength;
+        int stop = limited ? start + 2 + maxStringLength : end;
+        for (++i; (i = plain(in, i, stop)) < stop; ++i) {
+            int c = at(in, i, end);
+            if (c == '"') {
+                return i + 1;
+            } else if (c == '\\') {
+                if ((i = escape(in, i + 1, end)) < 0) return FAIL;
+            } else if (c < 0x20) {
+                return error(JsonError.Kind.CONTROL_CHARACTER, i);
+            } else if (c >= 0x80) {
+                if ((i = utf8(in, i, end)) < 0) return FAIL;
             }
-            if (Character.isDigit(c)) {
-                while (Character.isDigit(c))
-                    nextCharacter();
+        }
+        if (limited) return error(JsonError.Kind.STRING_LENGTH, stop);
+        return error(JsonError.Kind.CLOSING_QUOTE, start);
+    }
+
+    private int string(String in, int i, int end) {
+        if (i >= end || in.charAt(i) != '"') return FAIL;
+
+        int start = i;
+        boolean limited = end - start - 1 > maxStringLength;
+        int stop = limited ? start + 2 + maxStringLength : end;
+        for (++i; (i = plain(in, i, stop)) < stop; ++i) {
+            int c = in.charAt(i);
+            if (c == '"') {
+                return i + 1;
+            } else if (c == '\\') {
+                if ((i = escape(in, i + 1, end)) < 0) return FAIL;
             } else {
-                return error("number", start);
+                return error(JsonError.Kind.CONTROL_CHARACTER, i);
             }
         }
-        return true;
+        if (limited) return error(JsonError.Kind.STRING_LENGTH, stop);
+        return error(JsonError.Kind.CLOSING_QUOTE, start);
     }
 
-    private boolean string() {
-        if (c != '"') return false;
+    /**
+     * 跳过字符串里从i开始的一段普通字符，返回第一个引号、反斜杠、控制字符的下标，字节输入还会停在非ASCII字节上，
+     * 都没有时返回stop。字节输入每次读8个字节，用 {@link #special(long)} 一次判断
+     */
+    private static int plain(Object in, int i, int stop) {
+        if (in instanceof String) return plain((String) in, i, stop);
+        if (in instanceof byte[]) {
+            byte[] b = (byte[]) in;
+            for (; i <= stop - 8; i += 8) {
+                long mask = special((long) LONG.get(b, i));
+                if (mask != 0) return i + (Long.numberOfTrailingZeros(mask) >>> 3);
+            }
+        } else {
+            ByteBuffer buf = (ByteBuffer) in;
+            boolean big = buf.order() == ByteOrder.BIG_ENDIAN;
+            for (; i <= stop - 8; i += 8) {
+                long v = buf.getLong(i);
+                long mask = special(big ? Long.reverseBytes(v) : v);
+                if (mask != 0) return i + (Long.numberOfTrailingZeros(mask) >>> 3);
+            }
+        }
+        for (; i < stop; i++) {
+            int c = at(in, i, stop);
+            if (c < 0x20 || c == '"' || c == '\\' || c >= 0x80) return i;
+        }
+        return stop;
+    }
 
-        int start = col;
-        boolean escaped = false;
-        for (nextCharacter(); c != CharacterIterator.DONE; nextCharacter()) {
-            if (!escaped && c == '\\') {
-                escaped = true;
-            } else if (escaped) {
-                if (!escape()) {
-                    return false;
-                }
-                escaped = false;
-            } else if (c == '"') {
-                nextCharacter();
-                return true;
+    private static int plain(String in, int i, int stop) {
+        for (; i < stop; i++) {
+            char c = in.charAt(i);
+            if (c < 0x20 || c == '"' || c == '\\') return i;
+        }
+        return stop;
+    }
+
+    /**
+     * 小端序的8个字节里，引号、反斜杠、小于0x20和不小于0x80的字节在结果里对应的最高位为1。
+     * 减法的借位可能让第一个这样的字节之后的位出错，所以只能用最低的那一位
+     */
+    private static long special(long x) {
+        long quote = x ^ 0x2222222222222222L, backslash = x ^ 0x5C5C5C5C5C5C5C5CL;
+        return ((quote - ONES) & ~quote | (backslash - ONES) & ~backslash | x - 0x2020202020202020L | x) & HIGHS;
+    }
+
+    /**
+     * 校验反斜杠之后的转义字符，返回转义序列最后一个字符的下标
+     */
+    private int escape(Object in, int i, int end) {
+        int start = i - 1;
+        int c = at(in, i, end);
+        if (!JsonChars.is(c, JsonChars.ESCAPE)) {
+            return error(JsonError.Kind.ESCAPE, start);
+        }
+        if (c != 'u') return i;
+        int unit = unicode(in, i + 1, end);
+        if (unit < 0) return error(JsonError.Kind.UNICODE_ESCAPE, start);
+        i += 4;
+        if (validateSurrogates && (unit & 0xF800) == 0xD800) {
+            // 低代理不能单独出现，高代理后面必须紧跟一个低代理的转义
+            if (unit >= 0xDC00 || at(in, i + 1, end) != '\\' || at(in, i + 2, end) != 'u') {
+                return error(JsonError.Kind.SURROGATE, start);
+            }
+            int low = unicode(in, i + 3, end);
+            if (low < 0) return error(JsonError.Kind.UNICODE_ESCAPE, i + 1);
+            if ((low & 0xFC00) != 0xDC00) return error(JsonError.Kind.SURROGATE, i + 1);
+            i += 6;
+        }
+        return i;
+    }
+
+    /**
+     * 下标i开始的四个十六进制字符表示的UTF-16码元，有非法字符或越界时返回负数
+     */
+    private static int unicode(Object in, int i, int end) {
+        // 先按剩余长度判断，i + 3 在输入贴近 Integer.MAX_VALUE 时会溢出成负数，越过 at 的边界检查
+        if (end - i < 4) return -1;
+        return JsonChars.hex4(at(in, i, end), at(in, i + 1, end), at(in, i + 2, end), at(in, i + 3, end));
+    }
+
+    /**
+     * 校验从i开始的UTF-8多字节序列，返回序列最后一个字节的下标
+     */
+    private int utf8(Object in, int i, int end) {
+        int lead = at(in, i, end);
+        int count;
+        int min = 0x80, max = 0xBF;
+        if (lead >= 0xC2 && lead <= 0xDF) {
+            count = 1;
+        } else if (lead >= 0xE0 && lead <= 0xEF) {
+            count = 2;
+            if (lead == 0xE0) min = 0xA0;      // 过长编码
+            else if (lead == 0xED) max = 0x9F; // 代理区 U+D800..U+DFFF
+        } else if (lead >= 0xF0 && lead <= 0xF4) {
+            count = 3;
+            if (lead == 0xF0) min = 0x90;      // 过长编码
+            else if (lead == 0xF4) max = 0x8F; // 超出 U+10FFFF
+        } else {
+            return error(JsonError.Kind.UTF8, i);
+        }
+        int c = at(in, ++i, end);
+        if (c < min || c > max) return error(JsonError.Kind.UTF8, i);
+        while (--count > 0) {
+            c = at(in, ++i, end);
+            if (c < 0x80 || c > 0xBF) return error(JsonError.Kind.UTF8, i);
+        }
+        return i;
+    }
+
+    /**
+     * 读取下标i处的字符，字节输入按无符号值返回，越界返回 {@link #EOF}
+     */
+    static int at(Object in, int i, int end) {
+        if (i >= end) return EOF;
+        if (in instanceof String) return ((String) in).charAt(i);
+        if (in instanceof byte[]) return ((byte[]) in)[i] & 0xFF;
+        return ((ByteBuffer) in).get(i) & 0xFF;
+    }
+
+    /**
+     * 按输入类型只判断一次，String和byte[]直接按下标比较，不经过 {@link #at}
+     */
+    private static int skipWhiteSpace(Object in, int i, int end) {
+        if (in instanceof String) return skipWhiteSpace((String) in, i, end);
+        if (in instanceof byte[]) return skipWhiteSpace((byte[]) in, i, end);
+        while (JsonChars.isWhitespace(at(in, i, end))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int skipWhiteSpace(String in, int i, int end) {
+        for (; i < end; i++) {
+            char c = in.charAt(i);
+            if (c != ' ' && (c > ' ' || c != '\n' && c != '\r' && c != '\t')) break;
+        }
+        return i;
+    }
+
+    private static int skipWhiteSpace(byte[] in, int i, int end) {
+        for (; i < end; i++) {
+            byte c = in[i];
+            if (c == '\n') {
+                // 格式化输出换行之后的缩进是成段的空格，8个一组跳过
+                while (i < end - 8 && (long) LONG.get(in, i + 1) == SPACES) i += 8;
+            } else if (c != ' ' && c != '\r' && c != '\t') {
+                break;
             }
         }
-        return error("quoted string", start);
+        return i;
     }
 
-    private boolean escape() {
-        int start = col - 1;
-        if (" \\\"/bfnrtu".indexOf(c) < 0) {
-            return error("escape sequence  \\\",\\\\,\\/,\\b,\\f,\\n,\\r,\\t  or  \\uxxxx ", start);
+    /**
+     * 诊断模式下记下第一处错误，内层先报告的错误优先；普通模式下什么都不做
+     */
+    private int error(JsonError.Kind kind, int pos) {
+        if (failure != null && failure.kind == null) {
+            failure.kind = kind;
+            failure.pos = pos;
         }
-        if (c == 'u') {
-            if (isHex(nextCharacter()) || isHex(nextCharacter()) || isHex(nextCharacter())
-                    || isHex(nextCharacter())) {
-                return error("unicode escape sequence  \\uxxxx ", start);
+        return FAIL;
+    }
+
+    /**
+     * 解码字符串里从i开始的一个字符，返回 码点 << 32 | 下一个字符的下标，遇到闭引号时码点为-1。
+     * 转义、UTF-8和代理对都按解码后的码点计，同一字符的转义写法与原字符相同。调用前字符串已校验过
+     */
+    static long codePoint(Object in, int i, int end) {
+        long unit = codeUnit(in, i, end);
+        int c = (int) (unit >> 32);
+        if (Character.isHighSurrogate((char) c) && c < 0x10000) {
+            long low = codeUnit(in, (int) unit, end);
+            int d = (int) (low >> 32);
+            if (d >= 0 && Character.isLowSurrogate((char) d) && d < 0x10000) {
+                return (long) Character.toCodePoint((char) c, (char) d) << 32 | (int) low;
             }
         }
-        return true;
+        return unit;
     }
 
-    private boolean isHex(char d) {
-        return "0123456789abcdefABCDEF".indexOf(c) < 0;
+    /**
+     * 同 {@link #codePoint}，但不合并代理对：返回一个UTF-16单元，或者字节输入里一个完整的UTF-8字符
+     */
+    private static long codeUnit(Object in, int i, int end) {
+        int c = at(in, i, end);
+        if (c == '"') return -1L << 32 | i + 1;
+        if (c == '\\') {
+            c = at(in, i + 1, end);
+            switch (c) {
+                case 'b':
+                    c = '\b';
+                    break;
+                case 'f':
+                    c = '\f';
+                    break;
+                case 'n':
+                    c = '\n';
+                    break;
+                case 'r':
+                    c = '\r';
+                    break;
+                case 't':
+                    c = '\t';
+                    break;
+                case 'u':
+                    return (long) unicode(in, i + 2, end) << 32 | i + 6;
+                default:
+                    break;
+            }
+            return (long) c << 32 | i + 2;
+        }
+        if (c < 0x80 || in instanceof String) return (long) c << 32 | i + 1;
+        int count = c >= 0xF0 ? 3 : c >= 0xE0 ? 2 : 1;
+        c &= 0x3F >> count;
+        for (int k = 1; k <= count; k++) c = c << 6 | at(in, i + k, end) & 0x3F;
+        return (long) c << 32 | i + count + 1;
     }
 
-    private char nextCharacter() {
-        c = it.next();
-        ++col;
-        return c;
+    /**
+     * 下标key处的字符串按码点计算的散列值，转义写法不同但内容相同的字符串散列值相同。
+     * 不带种子，只用于schema里的属性名这类可信的键
+     */
+    static int keyHash(Object in, int key, int end) {
+        return (int) keyHash(in, key, end, 0);
     }
 
-    private void skipWhiteSpace() {
-        while (Character.isWhitespace(c)) {
-            nextCharacter();
+    /**
+     * 同 {@link #keyHash(Object, int, int)}，按种子做XXH64式的逐码点混合，最后经过XXH64的雪崩处理，
+     * 不知道种子就无法构造散列相同的键
+     */
+    static long keyHash(Object in, int key, int end, long seed) {
+        long hash = seed + 0x27D4EB2F165667C5L;
+        for (int i = key + 1; ; ) {
+            // 普通ASCII字符就是它自己的码点，不用走解码
+            int c = at(in, i, end);
+            if (c < 0x80 && c != '"' && c != '\\') {
+                i++;
+            } else {
+                long d = codePoint(in, i, end);
+                if ((c = (int) (d >> 32)) < 0) break;
+                i = (int) d;
+            }
+            hash = Long.rotateLeft(hash + c * 0xC2B2AE3D27D4EB4FL, 31) * 0x9E3779B185EBCA87L;
         }
+        hash ^= hash >>> 33;
+        hash *= 0xC2B2AE3D27D4EB4FL;
+        hash ^= hash >>> 29;
+        hash *= 0x165667B19E3779F9L;
+        return hash ^ hash >>> 32;
     }
 
-    private boolean error(String type, int col) {
-//        System.out.printf("type: %s, col: %s%s", type, col, System.getProperty("line.separator"));
+    /**
+     * 解码下标key处的字符串，只在重复键的散列表退化时使用
+     */
+    static String decode(Object in, int key, int end) {
+        StringBuilder sb = new StringBuilder();
+        for (long d = codeUnit(in, key + 1, end); (int) (d >> 32) >= 0; d = codeUnit(in, (int) d, end)) {
+            sb.appendCodePoint((int) (d >> 32));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * a中下标i处和b中下标j处的两个字符串解码后是否相同
+     */
+    static boolean sameString(Object a, int i, int aEnd, Object b, int j, int bEnd) {
+        // 两边相同的普通ASCII字符直接比较，遇到转义或非ASCII字符再解码
+        for (i++, j++; ; i++, j++) {
+            int c = at(a, i, aEnd);
+            if (c != at(b, j, bEnd) || c >= 0x80 || c == '\\') break;
+            if (c == '"') return true;
+        }
+        long x = codePoint(a, i, aEnd), y = codePoint(b, j, bEnd);
+        for (; (int) (x >> 32) == (int) (y >> 32); x = codePoint(a, (int) x, aEnd), y = codePoint(b, (int) y, bEnd)) {
+            if ((int) (x >> 32) < 0) return true;
+        }
         return false;
     }
 
-    public static void main(String[] args) {
-        String jsonStr = "{\n" +
-                "    \"status\": 0,\n" +
-                "    \"message\": \"\",\n" +
-                "    \"data\": {\n" +
-                "        \"search_data\": [\n" +
-                "            {\n" +
-                "                \"elements\": [\n" +
-                "                    {\n" +
-                "                        \"rating\": 0,\n" +
-                "                        \"name\": \"奈良市\",\n" +
-                "                        \"url\": \"/scenic/3/10052/\",\n" +
-                "                        \"wish_to_go_count\": 328,\n" +
-                "                        \"name_orig\": \"奈良市\",\n" +
-                "                        \"visited_count\": 1958,\n" +
-                "                        \"comments_count\": 0,\n" +
-                "                        \"location\": {\n" +
-                "                            \"lat\": 34.685087,\n" +
-                "                            \"lng\": 135.805\n" +
-                "                        },\n" +
-                "                        \"has_experience\": false,\n" +
-                "                        \"rating_users\": 0,\n" +
-                "                        \"name_zh\": \"奈良市\",\n" +
-                "                        \"name_en\": \"Nara\",\n" +
-                "                        \"type\": 3,\n" +
-                "                        \"id\": 10052,\n" +
-                "                        \"has_route_maps\": false,\n" +
-                "                        \"icon\": \"http://media.breadtrip.com/images/icons/2/city.png\"\n" +
-                "                    },\n" +
-                "                    {\n" +
-                "                        \"rating\": 0,\n" +
-                "                        \"name\": \"小樽市\",\n" +
-                "                        \"url\": \"/scenic/3/26772/\",\n" +
-                "                        \"wish_to_go_count\": 266,\n" +
-                "                        \"name_orig\": \"小樽市\",\n" +
-                "                        \"visited_count\": 954,\n" +
-                "                        \"comments_count\": 0,\n" +
-                "                        \"location\": {\n" +
-                "                            \"lat\": 43.190717,\n" +
-                "                            \"lng\": 140.994662\n" +
-                "                        },\n" +
-                "                        \"has_experience\": false,\n" +
-                "                        \"rating_users\": 0,\n" +
-                "                        \"name_zh\": \"小樽市\",\n" +
-                "                        \"name_en\": \"Otaru\",\n" +
-                "                        \"type\": 3,\n" +
-                "                        \"id\": 26772,\n" +
-                "                        \"has_route_maps\": false,\n" +
-                "                        \"icon\": \"http://media.breadtrip.com/images/icons/2/city.png\"\n" +
-                "                    },\n" +
-                "                    {\n" +
-                "                        \"rating\": 0,\n" +
-                "                        \"name\": \"槟城\",\n" +
-                "                        \"url\": \"/scenic/2/8257/\",\n" +
-                "                        \"wish_to_go_count\": 93,\n" +
-                "                        \"name_orig\": \"槟城\",\n" +
-                "                        \"visited_count\": 849,\n" +
-                "                        \"comments_count\": 0,\n" +
-                "                        \"location\": {\n" +
-                "                            \"lat\": 5.414167,\n" +
-                "                            \"lng\": 100.328759\n" +
-                "                        },\n" +
-                "                        \"has_experience\": false,\n" +
-                "                        \"rating_users\": 0,\n" +
-                "                        \"name_zh\": \"槟城\",\n" +
-                "                        \"name_en\": \"Penang\",\n" +
-                "                        \"type\": 2,\n" +
-                "                        \"id\": 8257,\n" +
-                "                        \"has_route_maps\": false,\n" +
-                "                        \"icon\": \"http://media.breadtrip.com/images/icons/2/province.png\"\n" +
-                "                    },\n" +
-                "                    {\n" +
-                "                        \"rating\": 0,\n" +
-                "                        \"name\": \"墨尔本\",\n" +
-                "                        \"url\": \"/scenic/3/47810/\",\n" +
-                "                        \"wish_to_go_count\": 2927,\n" +
-                "                        \"name_orig\": \"墨尔本\",\n" +
-                "                        \"visited_count\": 2112,\n" +
-                "                        \"comments_count\": 0,\n" +
-                "                        \"location\": {\n" +
-                "                            \"lat\": -37.814216,\n" +
-                "                            \"lng\": 144.963231\n" +
-                "                        },\n" +
-                "                        \"has_experience\": false,\n" +
-                "                        \"rating_users\": 0,\n" +
-                "                        \"name_zh\": \"墨尔本\",\n" +
-                "                        \"name_en\": \"Melbourne\",\n" +
-                "                        \"type\": 3,\n" +
-                "                        \"id\": 47810,\n" +
-                "                        \"has_route_maps\": false,\n" +
-                "                        \"icon\": \"http://media.breadtrip.com/images/icons/2/city.png\"\n" +
-                "                    },\n" +
-                "                    {\n" +
-                "                        \"rating\": 0,\n" +
-                "                        \"name\": \"广岛县\",\n" +
-                "                        \"url\": \"/scenic/2/9474/\",\n" +
-                "                        \"wish_to_go_count\": 36,\n" +
-                "                        \"name_orig\": \"广岛县\",\n" +
-                "                        \"visited_count\": 160,\n" +
-                "                        \"comments_count\": 0,\n" +
-                "                        \"location\": {\n" +
-                "                            \"lat\": 34.39656,\n" +
-                "                            \"lng\": 132.459622\n" +
-                "                        },\n" +
-                "                        \"has_experience\": false,\n" +
-                "                        \"rating_users\": 0,\n" +
-                "                        \"name_zh\": \"广岛县\",\n" +
-                "                        \"name_en\": \"Hiroshima Prefecture\",\n" +
-                "                        \"type\": 2,\n" +
-                "                        \"id\": 9474,\n" +
-                "                        \"has_route_maps\": false,\n" +
-                "                        \"icon\": \"http://media.breadtrip.com/images/icons/2/province.png\"\n" +
-                "                    },\n" +
-                "                    {\n" +
-                "                        \"rating\": 0,\n" +
-                "                        \"name\": \"泰国\",\n" +
-                "                        \"url\": \"/scenic/1/3649/\",\n" +
-                "                        \"wish_to_go_count\": 22131,\n" +
-                "                        \"name_orig\": \"泰国\",\n" +
-                "                        \"visited_count\": 22298,\n" +
-                "                        \"comments_count\": 0,\n" +
-                "                        \"location\": {\n" +
-                "                            \"lat\": 15.870032,\n" +
-                "                            \"lng\": 100.992541\n" +
-                "                        },\n" +
-                "                        \"has_experience\": false,\n" +
-                "                        \"icon\": \"http://media.breadtrip.com/images/icons/2/country.png\",\n" +
-                "                        \"type\": 1,\n" +
-                "                        \"id\": \"TH\",\n" +
-                "                        \"has_route_maps\": false,\n" +
-                "                        \"rating_users\": 0\n" +
-                "                    },\n" +
-                "                    {\n" +
-                "                        \"rating\": 0,\n" +
-                "                        \"name\": \"芬兰\",\n" +
-                "                        \"url\": \"/scenic/1/3613/\",\n" +
-                "                        \"wish_to_go_count\": 665,\n" +
-                "                        \"name_orig\": \"芬兰\",\n" +
-                "                        \"visited_count\": 1058,\n" +
-                "                        \"comments_count\": 0,\n" +
-                "                        \"location\": {\n" +
-                "                            \"lat\": 61.92411,\n" +
-                "                            \"lng\": 25.748151\n" +
-                "                        },\n" +
-                "                        \"has_experience\": false,\n" +
-                "                        \"icon\": \"http://media.breadtrip.com/images/icons/2/country.png\",\n" +
-                "                        \"type\": 1,\n" +
-                "                        \"id\": \"FI\",\n" +
-                "                        \"has_route_maps\": false,\n" +
-                "                        \"rating_users\": 0\n" +
-                "                    },\n" +
-                "                    {\n" +
-                "                        \"rating\": 0,\n" +
-                "                        \"name\": \"美国\",\n" +
-                "                        \"url\": \"/scenic/1/3803/\",\n" +
-                "                        \"wish_to_go_count\": 8828,\n" +
-                "                        \"name_orig\": \"美国\",\n" +
-                "                        \"visited_count\": 12967,\n" +
-                "                        \"comments_count\": 0,\n" +
-                "                        \"location\": {\n" +
-                "                            \"lat\": 37.09024,\n" +
-                "                            \"lng\": -95.712891\n" +
-                "                        },\n" +
-                "                        \"has_experience\": false,\n" +
-                "                        \"icon\": \"http://media.breadtrip.com/images/icons/2/country.png\",\n" +
-                "                        \"type\": 1,\n" +
-                "                        \"id\": \"US\",\n" +
-                "                        \"has_route_maps\": false,\n" +
-                "                        \"rating_users\": 0\n" +
-                "                    },\n" +
-                "                    {\n" +
-                "                        \"rating\": 0,\n" +
-                "                        \"name\": \"马来西亚\",\n" +
-                "                        \"url\": \"/scenic/1/3676/\",\n" +
-                "                        \"wish_to_go_count\": 6339,\n" +
-                "                        \"name_orig\": \"马来西亚\",\n" +
-                "                        \"visited_count\": 9533,\n" +
-                "                        \"comments_count\": 0,\n" +
-                "                        \"location\": {\n" +
-                "                            \"lat\": 4.210484,\n" +
-                "                            \"lng\": 101.975766\n" +
-                "                        },\n" +
-                "                        \"has_experience\": false,\n" +
-                "                        \"icon\": \"http://media.breadtrip.com/images/icons/2/country.png\",\n" +
-                "                        \"type\": 1,\n" +
-                "                        \"id\": \"MY\",\n" +
-                "                        \"has_route_maps\": false,\n" +
-                "                        \"rating_users\": 0\n" +
-                "                    },\n" +
-                "                    {\n" +
-                "                        \"rating\": 0,\n" +
-                "                        \"name\": \"意大利\",\n" +
-                "                        \"url\": \"/scenic/1/3720/\",\n" +
-                "                        \"wish_to_go_count\": 7689,\n" +
-                "                        \"name_orig\": \"意大利\",\n" +
-                "                        \"visited_count\": 6508,\n" +
-                "                        \"comments_count\": 0,\n" +
-                "                        \"location\": {\n" +
-                "                            \"lat\": 41.87194,\n" +
-                "                            \"lng\": 12.56738\n" +
-                "                        },\n" +
-                "                        \"has_experience\": false,\n" +
-                "                        \"icon\": \"http://media.breadtrip.com/images/icons/2/country.png\",\n" +
-                "                        \"type\": 1,\n" +
-                "                        \"id\": \"IT\",\n" +
-                "                        \"has_route_maps\": false,\n" +
-                "                        \"rating_users\": 0\n" +
-                "                    },\n" +
-                "                    {\n" +
-                "                        \"rating\": 0,\n" +
-                "                        \"name\": \"新加坡\",\n" +
-                "                        \"url\": \"/scenic/1/3589/\",\n" +
-                "                        \"wish_to_go_count\": 5847,\n" +
-                "                        \"name_orig\": \"新加坡\",\n" +
-                "                        \"visited_count\": 7835,\n" +
-                "                        \"comments_count\": 0,\n" +
-                "                        \"location\": {\n" +
-                "                            \"lat\": 1.352083,\n" +
-                "                            \"lng\": 103.819836\n" +
-                "                        },\n" +
-                "                        \"has_experience\": false,\n" +
-                "                        \"icon\": \"http://media.breadtrip.com/images/icons/2/country.png\",\n" +
-                "                        \"type\": 1,\n" +
-                "                        \"id\": \"SG\",\n" +
-                "                        \"has_route_maps\": false,\n" +
-                "                        \"rating_users\": 0\n" +
-                "                    },\n" +
-                "                    {\n" +
-                "                        \"rating\": 0,\n" +
-                "                        \"name\": \"挪威\",\n" +
-                "                        \"url\": \"/scenic/1/3258/\",\n" +
-                "                        \"wish_to_go_count\": 788,\n" +
-                "                        \"name_orig\": \"挪威\",\n" +
-                "                        \"visited_count\": 850,\n" +
-                "                        \"comments_count\": 0,\n" +
-                "                        \"location\": {\n" +
-                "                            \"lat\": 60.472024,\n" +
-                "                            \"lng\": 8.468946\n" +
-                "                        },\n" +
-                "                        \"has_experience\": false,\n" +
-                "                        \"icon\": \"http://media.breadtrip.com/images/icons/2/country.png\",\n" +
-                "                        \"type\": 1,\n" +
-                "                        \"id\": \"NO\",\n" +
-                "                        \"has_route_maps\": false,\n" +
-                "                        \"rating_users\": 0\n" +
-                "                    }\n" +
-                "                ],\n" +
-                "                \"type\": \"destination\",\n" +
-                "                \"title\": \"国外热门目的地\"\n" +
-                "            },\n" +
-                "            {\n" +
-                "                \"elements\": [\n" +
-                "                    {\n" +
-                "                        \"rating\": 0,\n" +
-                "                        \"name\": \"台湾\",\n" +
-                "                        \"url\": \"/scenic/1/3660/\",\n" +
-                "                        \"wish_to_go_count\": 37947,\n" +
-                "                        \"name_orig\": \"台湾\",\n" +
-                "                        \"visited_count\": 15729,\n" +
-                "                        \"comments_count\": 0,\n" +
-                "                        \"location\": {\n" +
-                "                            \"lat\": 23.69781,\n" +
-                "                            \"lng\": 120.960515\n" +
-                "                        },\n" +
-                "                        \"has_experience\": false,\n" +
-                "                        \"icon\": \"http://media.breadtrip.com/images/icons/2/country.png\",\n" +
-                "                        \"type\": 1,\n" +
-                "                        \"id\": \"TW\",\n" +
-                "                        \"has_route_maps\": false,\n" +
-                "                        \"rating_users\": 0\n" +
-                "                    },\n" +
-                "                    {\n" +
-                "                        \"rating\": 0,\n" +
-                "                        \"name\": \"香港\",\n" +
-                "                        \"url\": \"/scenic/1/3814/\",\n" +
-                "                        \"wish_to_go_count\": 23495,\n" +
-                "                        \"name_orig\": \"香港\",\n" +
-                "                        \"visited_count\": 31249,\n" +
-                "                        \"comments_count\": 0,\n" +
-                "                        \"location\": {\n" +
-                "                            \"lat\": 22.396428,\n" +
-                "                            \"lng\": 114.109497\n" +
-                "                        },\n" +
-                "                        \"has_experience\": false,\n" +
-                "                        \"icon\": \"http://media.breadtrip.com/images/icons/2/country.png\",\n" +
-                "                        \"type\": 1,\n" +
-                "                        \"id\": \"HK\",\n" +
-                "                        \"has_route_maps\": true,\n" +
-                "                        \"rating_users\": 0\n" +
-                "                    },\n" +
-                "                    {\n" +
-                "                        \"rating\": 0,\n" +
-                "                        \"name\": \"厦门\",\n" +
-                "                        \"url\": \"/scenic/3/65012/\",\n" +
-                "                        \"wish_to_go_count\": 29887,\n" +
-                "                        \"name_orig\": \"厦门\",\n" +
-                "                        \"visited_count\": 26077,\n" +
-                "                        \"comments_count\": 0,\n" +
-                "                        \"location\": {\n" +
-                "                            \"lat\": 24.477188,\n" +
-                "                            \"lng\": 118.094398\n" +
-                "                        },\n" +
-                "                        \"has_experience\": false,\n" +
-                "                        \"rating_users\": 0,\n" +
-                "                        \"name_zh\": \"厦门\",\n" +
-                "                        \"name_en\": \"Xiamen\",\n" +
-                "                        \"type\": 3,\n" +
-                "                        \"id\": 65012,\n" +
-                "                        \"has_route_maps\": false,\n" +
-                "                        \"icon\": \"http://media.breadtrip.com/images/icons/2/city.png\"\n" +
-                "                    },\n" +
-                "                    {\n" +
-                "                        \"rating\": 0,\n" +
-                "                        \"name\": \"北京\",\n" +
-                "                        \"url\": \"/scenic/3/8248/\",\n" +
-                "                        \"wish_to_go_count\": 7118,\n" +
-                "                        \"name_orig\": \"北京\",\n" +
-                "                        \"visited_count\": 53416,\n" +
-                "                        \"comments_count\": 0,\n" +
-                "                        \"location\": {\n" +
-                "                            \"lat\": 39.90561,\n" +
-                "                            \"lng\": 116.413634\n" +
-                "                        },\n" +
-                "                        \"has_experience\": false,\n" +
-                "                        \"rating_users\": 0,\n" +
-                "                        \"name_zh\": \"北京\",\n" +
-                "                        \"name_en\": \"Beijing\",\n" +
-                "                        \"type\": 3,\n" +
-                "                        \"id\": 8248,\n" +
-                "                        \"has_route_maps\": true,\n" +
-                "                        \"icon\": \"http://media.breadtrip.com/images/icons/2/city.png\"\n" +
-                "                    },\n" +
-                "                    {\n" +
-                "                        \"rating\": 0,\n" +
-                "                        \"name\": \"丽江市\",\n" +
-                "                        \"url\": \"/scenic/3/65362/\",\n" +
-                "                        \"wish_to_go_count\": 27368,\n" +
-                "                        \"name_orig\": \"丽江市\",\n" +
-                "                        \"visited_count\": 19389,\n" +
-                "                        \"comments_count\": 0,\n" +
-                "                        \"location\": {\n" +
-                "                            \"lat\": 26.851553,\n" +
-                "                            \"lng\": 100.228931\n" +
-                "                        },\n" +
-                "                        \"has_experience\": false,\n" +
-                "                        \"rating_users\": 0,\n" +
-                "                        \"name_zh\": \"丽江市\",\n" +
-                "                        \"name_en\": \"Lijiang\",\n" +
-                "                        \"type\": 3,\n" +
-                "                        \"id\": 65362,\n" +
-                "                        \"has_route_maps\": false,\n" +
-                "                        \"icon\": \"http://media.breadtrip.com/images/icons/2/city.png\"\n" +
-                "                    },\n" +
-                "                    {\n" +
-                "                        \"rating\": 0,\n" +
-                "                        \"name\": \"成都\",\n" +
-                "                        \"url\": \"/scenic/3/14209/\",\n" +
-                "                        \"wish_to_go_count\": 14464,\n" +
-                "                        \"name_orig\": \"成都\",\n" +
-                "                        \"visited_count\": 23484,\n" +
-                "                        \"comments_count\": 0,\n" +
-                "                        \"location\": {\n" +
-                "                            \"lat\": 30.569858,\n" +
-                "                            \"lng\": 104.069084\n" +
-                "                        },\n" +
-                "                        \"has_experience\": false,\n" +
-                "                        \"rating_users\": 0,\n" +
-                "                        \"name_zh\": \"成都\",\n" +
-                "                        \"name_en\": \"Chengdu\",\n" +
-                "                        \"type\": 3,\n" +
-                "                        \"id\": 14209,\n" +
-                "                        \"has_route_maps\": false,\n" +
-                "                        \"icon\": \"http://media.breadtrip.com/images/icons/2/city.png\"\n" +
-                "                    },\n" +
-                "                    {\n" +
-                "                        \"rating\": 0,\n" +
-                "                        \"name\": \"上海\",\n" +
-                "                        \"url\": \"/scenic/3/13961/\",\n" +
-                "                        \"wish_to_go_count\": 7601,\n" +
-                "                        \"name_orig\": \"上海\",\n" +
-                "                        \"visited_count\": 46500,\n" +
-                "                        \"comments_count\": 0,\n" +
-                "                        \"location\": {\n" +
-                "                            \"lat\": 31.228402,\n" +
-                "                            \"lng\": 121.478143\n" +
-                "                        },\n" +
-                "                        \"has_experience\": false,\n" +
-                "                        \"rating_users\": 0,\n" +
-                "                        \"name_zh\": \"上海\",\n" +
-                "                        \"name_en\": \"Shanghai\",\n" +
-                "                        \"type\": 3,\n" +
-                "                        \"id\": 13961,\n" +
-                "                        \"has_route_maps\": false,\n" +
-                "                        \"icon\": \"http://media.breadtrip.com/images/icons/2/city.png\"\n" +
-                "                    },\n" +
-                "                    {\n" +
-                "                        \"rating\": 0,\n" +
-                "                        \"name\": \"拉萨\",\n" +
-                "                        \"url\": \"/scenic/3/5249/\",\n" +
-                "                        \"wish_to_go_count\": 15492,\n" +
-                "                        \"name_orig\": \"拉萨\",\n" +
-                "                        \"visited_count\": 6544,\n" +
-                "                        \"comments_count\": 0,\n" +
-                "                        \"location\": {\n" +
-                "                            \"lat\": 29.649671,\n" +
-                "                            \"lng\": 91.173526\n" +
-                "                        },\n" +
-                "                        \"has_experience\": false,\n" +
-                "                        \"rating_users\": 0,\n" +
-                "                        \"name_zh\": \"拉萨\",\n" +
-                "                        \"name_en\": \"Lhasa\",\n" +
-                "                        \"type\": 3,\n" +
-                "                        \"id\": 5249,\n" +
-                "                        \"has_route_maps\": false,\n" +
-                "                        \"icon\": \"http://media.breadtrip.com/images/icons/2/city.png\"\n" +
-                "                    },\n" +
-                "                    {\n" +
-                "                        \"rating\": 0,\n" +
-                "                        \"name\": \"大理\",\n" +
-                "                        \"url\": \"/scenic/3/43908/\",\n" +
-                "                        \"wish_to_go_count\": 10103,\n" +
-                "                        \"name_orig\": \"大理\",\n" +
-                "                        \"visited_count\": 13291,\n" +
-                "                        \"comments_count\": 0,\n" +
-                "                        \"location\": {\n" +
-                "                            \"lat\": 25.603496,\n" +
-                "                            \"lng\": 100.268781\n" +
-                "                        },\n" +
-                "                        \"has_experience\": false,\n" +
-                "                        \"rating_users\": 0,\n" +
-                "                        \"name_zh\": \"大理\",\n" +
-                "                        \"name_en\": \"Dali\",\n" +
-                "                        \"type\": 3,\n" +
-                "                        \"id\": 43908,\n" +
-                "                        \"has_route_maps\": false,\n" +
-                "                        \"icon\": \"http://media.breadtrip.com/images/icons/2/city.png\"\n" +
-                "                    },\n" +
-                "                    {\n" +
-                "                        \"rating\": 0,\n" +
-                "                        \"name\": \"三亚\",\n" +
-                "                        \"url\": \"/scenic/3/65557/\",\n" +
-                "                        \"wish_to_go_count\": 8951,\n" +
-                "                        \"name_orig\": \"三亚\",\n" +
-                "                        \"visited_count\": 11920,\n" +
-                "                        \"comments_count\": 0,\n" +
-                "                        \"location\": {\n" +
-                "                            \"lat\": 18.251176,\n" +
-                "                            \"lng\": 109.51604\n" +
-                "                        },\n" +
-                "                        \"has_experience\": false,\n" +
-                "                        \"rating_users\": 0,\n" +
-                "                        \"name_zh\": \"三亚\",\n" +
-                "                        \"name_en\": \"Sanya\",\n" +
-                "                        \"type\": 3,\n" +
-                "                        \"id\": 65557,\n" +
-                "                        \"has_route_maps\": false,\n" +
-                "                        \"icon\": \"http://media.breadtrip.com/images/icons/2/city.png\"\n" +
-                "                    }\n" +
-                "                ],\n" +
-                "                \"type\": \"destination\",\n" +
-                "                \"title\": \"国内热门目的地\"\n" +
-                "            }\n" +
-                "        ],\n" +
-                "        \"date_time\": \"2017-09-11 10:52:27.811321\",\n" +
-                "        \"elements\": [\n" +
-                "            {\n" +
-                "                \"type\": 1,\n" +
-                "                \"data\": [\n" +
-                "                    [\n" +
-                "                        {\n" +
-                "                            \"platform\": \"android\",\n" +
-                "                            \"image_url\": \"http://photos.breadtrip.com/covers_2017_09_05_d5b225291045767fcfa0508f3d96ae26.jpg?imageView/2/w/960/\",\n" +
-                "                            \"html_url\": \"http://www.iqiyi.com/v_19rr8w7drg.html?dummy=&wx_uid2=wxidoG0a9jsIGfq1jln1HtWebMCOKKSQ\"\n" +
-                "                        },\n" +
-                "                        {\n" +
-                "                            \"platform\": \"android\",\n" +
-                "                            \"image_url\": \"http://photos.breadtrip.com/covers_2014_12_25_ed43331bac65ee0752f7e56116993b2c.jpg?imageView2/2/w/750/format/jpg/interlace/1/\",\n" +
-                "                            \"html_url\": \"http://web.breadtrip.com/mobile/destination/topic/2387718817/\"\n" +
-                "                        },\n" +
-                "                        {\n" +
-                "                            \"platform\": \"android\",\n" +
-                "                            \"image_url\": \"http://photos.breadtrip.com/covers_2014_10_29_46217a91ace672787ed1fec4c2011b52.png?imageView2/2/w/750/format/jpg/interlace/1/\",\n" +
-                "                            \"html_url\": \"http://web.breadtrip.com/mobile/destination/topic/2387718790/\"\n" +
-                "                        },\n" +
-                "                        {\n" +
-                "                            \"platform\": \"android\",\n" +
-                "                            \"image_url\": \"http://photos.breadtrip.com/covers_2015_04_24_59b10571419fb3888224d83365f561e8.jpg?imageView2/2/w/750/format/jpg/interlace/1/\",\n" +
-                "                            \"html_url\": \"http://web.breadtrip.com/mobile/destination/topic/2387718734/\"\n" +
-                "                        },\n" +
-                "                        {\n" +
-                "                            \"platform\": \"android\",\n" +
-                "                            \"image_url\": \"http://photos.breadtrip.com/covers_2014_12_05_c9aea564f43b673ea6d8dcf9c6c4627b.jpg?imageView2/2/w/750/format/jpg/interlace/1/\",\n" +
-                "                            \"html_url\": \"http://web.breadtrip.com/mobile/destination/topic/2387718810/\"\n" +
-                "                        },\n" +
-                "                        {\n" +
-                "                            \"platform\": \"android\",\n" +
-                "                            \"image_url\": \"http://photos.breadtrip.com/covers_2016_02_26_51987e2bebba67bad75ccb114dfea7ab.png?imageView2/2/w/750/format/jpg/interlace/1/\",\n" +
-                "                            \"html_url\": \"http://web.breadtrip.com/mobile/destination/topic/2387719110/\"\n" +
-                "                        }\n" +
-                "                    ]\n" +
-                "                ],\n" +
-                "                \"desc\": \"广告banner\"\n" +
-                "            },\n" +
-                "            {\n" +
-                "                \"type\": 11,\n" +
-                "                \"data\": [\n" +
-                "                    {\n" +
-                "                        \"title\": \"每日精选故事\"\n" +
-                "                    }\n" +
-                "                ],\n" +
-                "                \"desc\": \"\"\n" +
-                "            },\n" +
-                "            {\n" +
-                "                \"type\": 10,\n" +
-                "                \"data\": [\n" +
-                "                    {\n" +
-                "                        \"text\": \"halo 雷猴嘛\\n我猜你是个妹纸\\n我猜你是个爱美的妹纸\\n我猜你是个喜欢首饰and爱美的妹纸\\n我猜你是个喜欢手作首饰and爱美的妹纸\\n我猜…你是个亲手做首饰给女票的汉纸!\\n\\n\\n\\n我是个喜欢手工喜欢首饰喜欢发现美的美男纸，来吃我一安利呗!\",\n" +
-                "                        \"is_liked\": false,\n" +
-                "                        \"index_cover\": \"http://photos.breadtrip.com/photo_d_2016_08_02_dca0659576dfe60382943612e2fff308ff2b1f1d56055e6b29f6fdd317f3ff8c.jpeg?imageView/2/w/960/q/85\",\n" +
-                "                        \"poi\": {},\n" +
-                "                        \"cover_image_height\": 1206,\n" +
-                "                        \"trip_id\": 2387270842,\n" +
-                "                        \"index_title\": \"\",\n" +
-                "                        \"center_point\": {\n" +
-                "                            \"lat\": 0,\n" +
-                "                            \"lng\": 0\n" +
-                "                        },\n" +
-                "                        \"view_count\": 45446,\n" +
-                "                        \"location_alias\": \"Dream High梦想社\",\n" +
-                "                        \"cover_image_1600\": \"http://photos.breadtrip.com/photo_d_2016_08_02_09931d012facf6186f9c25202983dcaa68efddaccb4cbc0e78a0ded46afb778e.jpeg?imageView/2/w/1384/h/1384/q/85\",\n" +
-                "                        \"cover_image_s\": \"http://photos.breadtrip.com/photo_d_2016_08_02_09931d012facf6186f9c25202983dcaa68efddaccb4cbc0e78a0ded46afb778e.jpeg?imageView/1/w/280/h/280/q/75\",\n" +
-                "                        \"share_url\": \"btrip/spot/2387867495/\",\n" +
-                "                        \"timezone\": \"Asia/Shanghai\",\n" +
-                "                        \"date_tour\": \"2016-07-31T20:49:00+08:00\",\n" +
-                "                        \"is_hiding_location\": true,\n" +
-                "                        \"user\": {\n" +
-                "                            \"location_name\": \"广东_广州\",\n" +
-                "                            \"name\": \"林酷儿\",\n" +
-                "                            \"resident_city_id\": 275,\n" +
-                "                            \"mobile\": \"\",\n" +
-                "                            \"gender\": 2,\n" +
-                "                            \"avatar_m\": \"http://photos.breadtrip.com/avatar_17_c1_1214298920959e94700b4cb370271320c5745e6c.jpg-avatar.m\",\n" +
-                "                            \"cover\": \"http://photos.breadtrip.com/default_user_cover_06.jpg-usercover.display\",\n" +
-                "                            \"custom_url\": \"\",\n" +
-                "                            \"experience\": {\n" +
-                "                                \"value\": 101,\n" +
-                "                                \"level_info\": {\n" +
-                "                                    \"name\": \"\",\n" +
-                "                                    \"value\": 2\n" +
-                "                                }\n" +
-                "                            },\n" +
-                "                            \"id\": 2384430044,\n" +
-                "                            \"birthday\": \"\",\n" +
-                "                            \"country_num\": null,\n" +
-                "                            \"avatar_s\": \"http://photos.breadtrip.com/avatar_17_c1_1214298920959e94700b4cb370271320c5745e6c.jpg-avatar.s\",\n" +
-                "                            \"country_code\": null,\n" +
-                "                            \"email_verified\": false,\n" +
-                "                            \"is_hunter\": false,\n" +
-                "                            \"cdc2\": false,\n" +
-                "                            \"avatar_l\": \"http://photos.breadtrip.com/avatar_17_c1_1214298920959e94700b4cb370271320c5745e6c.jpg-avatar.l\",\n" +
-                "                            \"email\": \"\",\n" +
-                "                            \"user_desc\": \"\",\n" +
-                "                            \"points\": 26\n" +
-                "                        },\n" +
-                "                        \"spot_id\": 2387867495,\n" +
-                "                        \"is_author\": false,\n" +
-                "                        \"cover_image_w640\": \"http://photos.breadtrip.com/photo_d_2016_08_02_09931d012facf6186f9c25202983dcaa68efddaccb4cbc0e78a0ded46afb778e.jpeg?imageView/1/w/640/h/480/q/85\",\n" +
-                "                        \"region\": {\n" +
-                "                            \"primary\": \"\",\n" +
-                "                            \"secondary\": \"\"\n" +
-                "                        },\n" +
-                "                        \"comments_count\": 9,\n" +
-                "                        \"cover_image\": \"http://photos.breadtrip.com/photo_d_2016_08_02_09931d012facf6186f9c25202983dcaa68efddaccb4cbc0e78a0ded46afb778e.jpeg?imageView/2/w/960/q/85\",\n" +
-                "                        \"cover_image_width\": 1600,\n" +
-                "                        \"recommendations_count\": 22\n" +
-                "                    }\n" +
-                "                ],\n" +
-                "                \"desc\": \"\"\n" +
-                "            },\n" +
-                "            {\n" +
-                "                \"type\": 10,\n" +
-                "                \"data\": [\n" +
-                "                    {\n" +
-                "                        \"text\": \"挑战极限和心跳，让自己成为一个有趣的人。\\n2016月5月在面包旅行，偶然下兼职做一个猎人哈哈（活动名字上帝之眼），感觉挺酷的。\\n重庆最具特色的，当然是城市里最耀眼的高楼夜景，曾经有一部电影“重庆森林”，故事很多场景，以及城市展现出重庆这座奇葩一样的城市，独具特色话3D话，很多电影都有在重庆取景。\",\n" +
-                "                        \"is_liked\": false,\n" +
-                "                        \"index_cover\": \"http://photos.breadtrip.com/photo_d_2016_06_24_4bc9f811fa5b900762fb1d55dff164f32066a28d4010bf9f4a4c20dd62634b4d.jpg?imageView/2/w/960/q/85\",\n" +
-                "                        \"poi\": {\n" +
-                "                            \"tel\": \"023-62872299\",\n" +
-                "                            \"currency\": \"CNY\",\n" +
-                "                            \"is_nearby\": true,\n" +
-                "                            \"timezone\": \"Asia/Chongqing\",\n" +
-                "                            \"id\": 2387458620,\n" +
-                "                            \"category\": 11,\n" +
-                "                            \"recommended_reason\": \"看滚滚江水向东流去，犹如有登高望远\",\n" +
-                "                            \"fee\": \"免费\",\n" +
-                "                            \"spot_region\": \"重庆\",\n" +
-                "                            \"date_added\": \"2014-12-16 10:48:55\",\n" +
-                "                            \"time_consuming_max\": 0,\n" +
-                "                            \"time_consuming\": null,\n" +
-                "                            \"extra1\": \"\",\n" +
-                "                            \"recommended\": true,\n" +
-                "                            \"location\": {\n" +
-                "                                \"lat\": 29.554926,\n" +
-                "                                \"lng\": 106.586696\n" +
-                "                            },\n" +
-                "                            \"opening_time\": \"全天\",\n" +
-                "                            \"type\": 5,\n" +
-                "                            \"time_consuming_min\": 0,\n" +
-                "                            \"website\": \"\",\n" +
-                "                            \"description\": \"长江索道起于渝中区长安寺，横跨长江至南岸区上新街。乘坐过江索道，除了可以欣赏两江美景外，还可以从索道上俯瞰洪崖洞、湖广会馆、南滨路等著名景观。\",\n" +
-                "                            \"arrival_type\": \"乘105、132、135、153、181、261、0321夜班、476、0491夜班、0492夜班、0493夜班、871、898路等公交车在新华路站下车即到\",\n" +
-                "                            \"address\": \"重庆市渝中区新华路153号\",\n" +
-                "                            \"verified\": true,\n" +
-                "                            \"name_en\": \"\",\n" +
-                "                            \"icon\": \"http://media.breadtrip.com/images/icons/poi_category_11.png\",\n" +
-                "                            \"name\": \"长江索道\",\n" +
-                "                            \"popularity\": 809\n" +
-                "                        },\n" +
-                "                        \"cover_image_height\": 1067,\n" +
-                "                        \"trip_id\": 2387276098,\n" +
-                "                        \"index_title\": \"\",\n" +
-                "                        \"center_point\": {\n" +
-                "                            \"lat\": 0,\n" +
-                "                            \"lng\": 0\n" +
-                "                        },\n" +
-                "                        \"view_count\": 49744,\n" +
-                "                        \"location_alias\": \"\",\n" +
-                "                        \"cover_image_1600\": \"http://photos.breadtrip.com/photo_d_2016_06_24_7df54edb43492917e7d1cb743a4a379b92bc85c2562bb6b1a39d346c4f6fc0e9.jpg?imageView/2/w/1384/h/1384/q/85\",\n" +
-                "                        \"cover_image_s\": \"http://photos.breadtrip.com/photo_d_2016_06_24_7df54edb43492917e7d1cb743a4a379b92bc85c2562bb6b1a39d346c4f6fc0e9.jpg?imageView/1/w/280/h/280/q/75\",\n" +
-                "                        \"share_url\": \"btrip/spot/2387843168/\",\n" +
-                "                        \"timezone\": \"Asia/Shanghai\",\n" +
-                "                        \"date_tour\": \"2016-06-24T10:51:14+08:00\",\n" +
-                "                        \"is_hiding_location\": false,\n" +
-                "                        \"user\": {\n" +
-                "                            \"location_name\": \"\",\n" +
-                "                            \"name\": \"W猫小北\",\n" +
-                "                            \"resident_city_id\": 288652,\n" +
-                "                            \"mobile\": \"\",\n" +
-                "                            \"gender\": 1,\n" +
-                "                            \"avatar_m\": \"http://photos.breadtrip.com/avatar_bc_fd_a6720f5e50d1f22194c51f73329f0e9c48ab7ba8.jpg-avatar.m\",\n" +
-                "                            \"cover\": \"http://photos.breadtrip.com/default_user_cover_05.jpg-usercover.display\",\n" +
-                "                            \"custom_url\": \"\",\n" +
-                "                            \"experience\": {\n" +
-                "                                \"value\": 1242,\n" +
-                "                                \"level_info\": {\n" +
-                "                                    \"name\": \"\",\n" +
-                "                                    \"value\": 4\n" +
-                "                                }\n" +
-                "                            },\n" +
-                "                            \"id\": 2387577484,\n" +
-                "                            \"birthday\": \"\",\n" +
-                "                            \"country_num\": \"86\",\n" +
-                "                            \"avatar_s\": \"http://photos.breadtrip.com/avatar_bc_fd_a6720f5e50d1f22194c51f73329f0e9c48ab7ba8.jpg-avatar.s\",\n" +
-                "                            \"country_code\": \"CN\",\n" +
-                "                            \"email_verified\": false,\n" +
-                "                            \"is_hunter\": true,\n" +
-                "                            \"cdc2\": false,\n" +
-                "                            \"avatar_l\": \"http://photos.breadtrip.com/avatar_bc_fd_a6720f5e50d1f22194c51f73329f0e9c48ab7ba8.jpg-avatar.l\",\n" +
-                "                            \"email\": \"\",\n" +
-                "                            \"user_desc\": \"我是猫小北，喜欢摄影摄像以及美食旅行，独自旅行大半中国，特长就是长得帅，吃得多还不胖。喜欢用心记录不容易发现的美好，我想记录这一切的美好。\",\n" +
-                "                            \"points\": 87\n" +
-                "                        },\n" +
-                "                        \"spot_id\": 2387843168,\n" +
-                "                        \"is_author\": false,\n" +
-                "                        \"cover_image_w640\": \"http://photos.breadtrip.com/photo_d_2016_06_24_7df54edb43492917e7d1cb743a4a379b92bc85c2562bb6b1a39d346c4f6fc0e9.jpg?imageView/1/w/640/h/480/q/85\",\n" +
-                "                        \"region\": {\n" +
-                "                            \"primary\": \"\",\n" +
-                "                            \"secondary\": \"\"\n" +
-                "                        },\n" +
-                "                        \"comments_count\": 7,\n" +
-                "                        \"cover_image\": \"http://photos.breadtrip.com/photo_d_2016_06_24_7df54edb43492917e7d1cb743a4a379b92bc85c2562bb6b1a39d346c4f6fc0e9.jpg?imageView/2/w/960/q/85\",\n" +
-                "                        \"cover_image_width\": 1600,\n" +
-                "                        \"recommendations_count\": 40\n" +
-                "                    }\n" +
-                "                ],\n" +
-                "                \"desc\": \"\"\n" +
-                "            },\n" +
-                "            {\n" +
-                "                \"type\": 10,\n" +
-                "                \"data\": [\n" +
-                "                    {\n" +
-                "                        \"text\": \"很有幸能有王老这样的人让我们能睹旧物思旧人旧事，陈列室虽不大，却也充斥了老北京饮食医用居的方方面面，可以亲手触摸历史，了解自己现在工作城市的过去现在让人倍感亲切！\",\n" +
-                "                        \"is_liked\": false,\n" +
-                "                        \"index_cover\": \"http://photos.breadtrip.com/photo_d_2016_06_09_23_56_51_174_123986672_-1220261189.jpg?imageView/2/w/960/q/85\",\n" +
-                "                        \"poi\": \"\",\n" +
-                "                        \"cover_image_height\": 724,\n" +
-                "                        \"trip_id\": 2387247307,\n" +
-                "                        \"index_title\": \"\",\n" +
-                "                        \"center_point\": {},\n" +
-                "                        \"view_count\": 39166,\n" +
-                "                        \"location_alias\": \"\",\n" +
-                "                        \"cover_image_1600\": \"http://photos.breadtrip.com/photo_d_2016_06_09_23_56_50_703_123986672_834948024.jpg?imageView/2/w/1384/h/1384/q/85\",\n" +
-                "                        \"cover_image_s\": \"http://photos.breadtrip.com/photo_d_2016_06_09_23_56_50_703_123986672_834948024.jpg?imageView/1/w/280/h/280/q/75\",\n" +
-                "                        \"share_url\": \"btrip/spot/2387849028/\",\n" +
-                "                        \"timezone\": \"Asia/Shanghai\",\n" +
-                "                        \"date_tour\": \"2016-06-09T23:42:30+08:00\",\n" +
-                "                        \"is_hiding_location\": false,\n" +
-                "                        \"user\": {\n" +
-                "                            \"location_name\": \"\",\n" +
-                "                            \"name\": \"Lucy鱼er\",\n" +
-                "                            \"resident_city_id\": \"\",\n" +
-                "                            \"mobile\": \"\",\n" +
-                "                            \"gender\": 2,\n" +
-                "                            \"avatar_m\": \"http://photos.breadtrip.com/avatar_d0_f2_9450f59011820dcdfe7f0317d76f7fb0654cf52c.jpg-avatar.m\",\n" +
-                "                            \"cover\": \"http://media.breadtrip.com/user_covers/default/cover_3.jpg\",\n" +
-                "                            \"custom_url\": \"\",\n" +
-                "                            \"experience\": {\n" +
-                "                                \"value\": 132,\n" +
-                "                                \"level_info\": {\n" +
-                "                                    \"name\": \"\",\n" +
-                "                                    \"value\": 2\n" +
-                "                                }\n" +
-                "                            },\n" +
-                "                            \"id\": 2386840189,\n" +
-                "                            \"birthday\": \"\",\n" +
-                "                            \"country_num\": null,\n" +
-                "                            \"avatar_s\": \"http://photos.breadtrip.com/avatar_d0_f2_9450f59011820dcdfe7f0317d76f7fb0654cf52c.jpg-avatar.s\",\n" +
-                "                            \"country_code\": null,\n" +
-                "                            \"email_verified\": false,\n" +
-                "                            \"is_hunter\": false,\n" +
-                "                            \"cdc2\": false,\n" +
-                "                            \"avatar_l\": \"http://photos.breadtrip.com/avatar_d0_f2_9450f59011820dcdfe7f0317d76f7fb0654cf52c.jpg-avatar.l\",\n" +
-                "                            \"email\": \"\",\n" +
-                "                            \"user_desc\": \"\",\n" +
-                "                            \"points\": 52\n" +
-                "                        },\n" +
-                "                        \"spot_id\": 2387849028,\n" +
-                "                        \"is_author\": false,\n" +
-                "                        \"cover_image_w640\": \"http://photos.breadtrip.com/photo_d_2016_06_09_23_56_50_703_123986672_834948024.jpg?imageView/1/w/640/h/480/q/85\",\n" +
-                "                        \"region\": {\n" +
-                "                            \"primary\": \"\",\n" +
-                "                            \"secondary\": \"\"\n" +
-                "                        },\n" +
-                "                        \"comments_count\": 2,\n" +
-                "                        \"cover_image\": \"http://photos.breadtrip.com/photo_d_2016_06_09_23_56_50_703_123986672_834948024.jpg?imageView/2/w/960/q/85\",\n" +
-                "                        \"cover_image_width\": 965,\n" +
-                "                        \"recommendations_count\": 13\n" +
-                "                    }\n" +
-                "                ],\n" +
-                "                \"desc\": \"\"\n" +
-                "            },\n" +
-                "            {\n" +
-                "                \"type\": 10,\n" +
-                "                \"data\": [\n" +
-                "                    {\n" +
-                "                        \"text\": \"献给爱我们的女神\",\n" +
-                "                        \"is_liked\": false,\n" +
-                "                        \"index_cover\": \"http://photos.breadtrip.com/photo_d_2016_06_19_01_21_20_989_123986672_17737936936133063098.jpg?imageView/2/w/960/q/85\",\n" +
-                "                        \"poi\": \"\",\n" +
-                "                        \"cover_image_height\": 816,\n" +
-                "                        \"trip_id\": 2387282916,\n" +
-                "                        \"index_title\": \"\",\n" +
-                "                        \"center_point\": {},\n" +
-                "                        \"view_count\": 36207,\n" +
-                "                        \"location_alias\": \"\",\n" +
-                "                        \"cover_image_1600\": \"http://photos.breadtrip.com/photo_d_2016_06_19_01_21_20_926_123986672_17737936923172662193.jpg?imageView/2/w/1384/h/1384/q/85\",\n" +
-                "                        \"cover_image_s\": \"http://photos.breadtrip.com/photo_d_2016_06_19_01_21_20_926_123986672_17737936923172662193.jpg?imageView/1/w/280/h/280/q/75\",\n" +
-                "                        \"share_url\": \"btrip/spot/2387842143/\",\n" +
-                "                        \"timezone\": \"Asia/Shanghai\",\n" +
-                "                        \"date_tour\": \"2016-06-19T01:19:07+08:00\",\n" +
-                "                        \"is_hiding_location\": false,\n" +
-                "                        \"user\": {\n" +
-                "                            \"location_name\": \"\",\n" +
-                "                            \"name\": \"丑到没墙角\",\n" +
-                "                            \"resident_city_id\": \"\",\n" +
-                "                            \"mobile\": \"\",\n" +
-                "                            \"gender\": 2,\n" +
-                "                            \"avatar_m\": \"http://photos.breadtrip.com/avatar_41_b8_aedfd71640e3ec09d0c30edc47df04dc56dbf38a.jpg-avatar.m\",\n" +
-                "                            \"cover\": \"http://photos.breadtrip.com/default_user_cover_10.jpg-usercover.display\",\n" +
-                "                            \"custom_url\": \"\",\n" +
-                "                            \"experience\": {\n" +
-                "                                \"value\": 59,\n" +
-                "                                \"level_info\": {\n" +
-                "                                    \"name\": \"\",\n" +
-                "                                    \"value\": 1\n" +
-                "                                }\n" +
-                "                            },\n" +
-                "                            \"id\": 2384288641,\n" +
-                "                            \"birthday\": \"\",\n" +
-                "                            \"country_num\": null,\n" +
-                "                            \"avatar_s\": \"http://photos.breadtrip.com/avatar_41_b8_aedfd71640e3ec09d0c30edc47df04dc56dbf38a.jpg-avatar.s\",\n" +
-                "                            \"country_code\": null,\n" +
-                "                            \"email_verified\": false,\n" +
-                "                            \"is_hunter\": false,\n" +
-                "                            \"cdc2\": false,\n" +
-                "                            \"avatar_l\": \"http://photos.breadtrip.com/avatar_41_b8_aedfd71640e3ec09d0c30edc47df04dc56dbf38a.jpg-avatar.l\",\n" +
-                "                            \"email\": \"\",\n" +
-                "                            \"user_desc\": \"\",\n" +
-                "                            \"points\": 2\n" +
-                "                        },\n" +
-                "                        \"spot_id\": 2387842143,\n" +
-                "                        \"is_author\": false,\n" +
-                "                        \"cover_image_w640\": \"http://photos.breadtrip.com/photo_d_2016_06_19_01_21_20_926_123986672_17737936923172662193.jpg?imageView/1/w/640/h/480/q/85\",\n" +
-                "                        \"region\": {\n" +
-                "                            \"primary\": \"\",\n" +
-                "                            \"secondary\": \"\"\n" +
-                "                        },\n" +
-                "                        \"comments_count\": 2,\n" +
-                "                        \"cover_image\": \"http://photos.breadtrip.com/photo_d_2016_06_19_01_21_20_926_123986672_17737936923172662193.jpg?imageView/2/w/960/q/85\",\n" +
-                "                        \"cover_image_width\": 1088,\n" +
-                "                        \"recommendations_count\": 21\n" +
-                "                    }\n" +
-                "                ],\n" +
-                "                \"desc\": \"\"\n" +
-                "            },\n" +
-                "            {\n" +
-                "                \"type\": 9,\n" +
-                "                \"data\": [\n" +
-                "                    {\n" +
-                "                        \"title\": \"精彩原创和专题\"\n" +
-                "                    }\n" +
-                "                ],\n" +
-                "                \"desc\": \"\"\n" +
-                "            },\n" +
-                "            {\n" +
-                "                \"type\": 4,\n" +
-                "                \"data\": [\n" +
-                "                    {\n" +
-                "                        \"cover_image_default\": \"http://photos.breadtrip.com/photo_2017_07_18_0996aaecaadfdc9ed3534ed9b0c4928c.jpg?imageView/2/w/960/q/85\",\n" +
-                "                        \"waypoints\": 153,\n" +
-                "                        \"wifi_sync\": false,\n" +
-                "                        \"last_day\": \"2017-06-14\",\n" +
-                "                        \"id\": 2387425140,\n" +
-                "                        \"view_count\": 25191,\n" +
-                "                        \"privacy\": 0,\n" +
-                "                        \"day_count\": 7,\n" +
-                "                        \"index_title\": \"荷兰--黄金时代的回响";
-        JsonValidator jsonValidator = new JsonValidator();
-        long start = System.currentTimeMillis();
-        for (int i = 0; i < 100000; i++) {
-            jsonValidator.validate(jsonStr);
+    /**
+     * 拒绝重复键时各层对象已出现的键，每层一张开放寻址的散列表，在同一层后续的对象里复用。
+     * 表里只记键的起始下标和散列值，散列和比较都直接在输入上按码点进行，不创建字符串
+     */
+    private static final class Keys {
+        private final long seed;
+        private KeySet[] levels = new KeySet[8];
+
+        Keys(long seed) {
+            this.seed = seed;
         }
-        long end = System.currentTimeMillis();
-        System.out.println("耗时：" + (end - start));
+
+        /**
+         * 第level层新对象的第一个键，清空这一层的表
+         */
+        boolean first(int level, Object in, int key, int end) {
+            if (level >= levels.length) levels = Arrays.copyOf(levels, Math.max(level + 1, levels.length << 1));
+            KeySet set = levels[level];
+            if (set == null) levels[level] = set = new KeySet(seed);
+            else set.clear();
+            return set.add(in, key, end);
+        }
+
+        /**
+         * @return 第level层当前对象里已有相同的键时返回false
+         */
+        boolean add(int level, Object in, int key, int end) {
+            return levels[level].add(in, key, end);
+        }
+    }
+
+    /**
+     * 一个对象的键集合。槽位的代数等于当前代数时才有效，清空时只把代数加一，不用逐个擦除。
+     * 某个键探测超过 {@link #MAX_KEY_PROBES} 个槽位时，这个对象剩下的键改放进解码后的 {@link HashSet}，
+     * String的散列冲突在HashMap里按树存放，即使散列被猜中也不会退化成平方复杂度
+     */
+    private static final class KeySet {
+        private final long seed;
+        private int[] starts = new int[16];
+        private int[] hashes = new int[16];
+        private int[] stamps = new int[16];
+        private int stamp = 1;
+        private int size;
+        private HashSet<String> overflow;
+
+        KeySet(long seed) {
+            this.seed = seed;
+        }
+
+        void clear() {
+            size = 0;
+            overflow = null;
+            if (++stamp == 0) {
+                Arrays.fill(stamps, 0);
+                stamp = 1;
+            }
+        }
+
+        boolean add(Object in, int key, int end) {
+            if (overflow != null) return overflow.add(decode(in, key, end));
+            int hash = (int) keyHash(in, key, end, seed);
+            int mask = starts.length - 1;
+            int s = hash & mask;
+            for (int probes = 0; stamps[s] == stamp; s = s + 1 & mask) {
+                if (hashes[s] == hash && sameString(in, starts[s], end, in, key, end)) return false;
+                if (++probes == MAX_KEY_PROBES) return spill(in, key, end);
+            }
+            starts[s] = key;
+            hashes[s] = hash;
+            stamps[s] = stamp;
+            if (++size << 1 > starts.length) grow();
+            return true;
+        }
+
+        /**
+         * 把表里当前对象的键解码后移进 {@link #overflow}，再加入下标key处的键
+         */
+        private boolean spill(Object in, int key, int end) {
+            overflow = new HashSet<>();
+            for (int k = 0; k < starts.length; k++) {
+                if (stamps[k] == stamp) overflow.add(decode(in, starts[k], end));
+            }
+            return overflow.add(decode(in, key, end));
+        }
+
+        private void grow() {
+            int[] oldStarts = starts, oldHashes = hashes, oldStamps = stamps;
+            int n = oldStarts.length << 1, mask = n - 1;
+            starts = new int[n];
+            hashes = new int[n];
+            stamps = new int[n];
+            for (int k = 0; k < oldStarts.length; k++) {
+                if (oldStamps[k] != stamp) continue;
+                int s = oldHashes[k] & mask;
+                while (stamps[s] == stamp) s = s + 1 & mask;
+                starts[s] = oldStarts[k];
+                hashes[s] = oldHashes[k];
+                stamps[s] = stamp;
+            }
+        }
+    }
+
+    /**
+     * 诊断模式下的第一处错误
+     */
+    private static final class Failure {
+        JsonError.Kind kind;
+        int pos;
     }
 }
@@ -0,0 +1,239 @@
+/**
+ * @describe 校验器的限制项，用于拒绝不可信的输入，超过任何一项都判为非法，扫描到越界处立即返回。
+ * 不可变，通过 {@link #builder()} 创建，未设置的项不限制（最大嵌套深度默认 {@value JsonValidator#DEFAULT_MAX_DEPTH}）
+ * <p>
+ * 字符串、String输入按字符计，字节输入按字节计；字符串长度不含引号，转义序列按原文长度计。
+ * 流式校验（输入流、通道、超过2GB的文件、分块并行）检查文档大小、嵌套深度、字符串长度、数字长度、成员数和代理对；
+ * 它记不住每层对象的全部键，也不累计数字的值，要求检查重复键或设置了数字规则的配置在这些路径上直接抛出
+ * {@link IllegalArgumentException}
+ */
+public final class JsonValidatorConfig {
+    public static final JsonValidatorConfig DEFAULT = builder().build();
+
+    private final long maxDocumentSize;
+    private final int maxDepth;
+    private final int maxStringLength;
+    private final int maxNumberLength;
+    private final int maxMembers;
+    private final boolean rejectDuplicateKeys;
+    private final boolean validateSurrogates;
+    private final boolean requireInteger;
+    private final boolean requireLong;
+    private final boolean requireExactDouble;
+    private final int maxNumberDigits;
+    private final int maxNumberExponent;
+
+    private JsonValidatorConfig(Builder builder) {
+        this.maxDocumentSize = builder.maxDocumentSize;
+        this.maxDepth = builder.maxDepth;
+        this.maxStringLength = builder.maxStringLength;
+        this.maxNumberLength = builder.maxNumberLength;
+        this.maxMembers = builder.maxMembers;
+        this.rejectDuplicateKeys = builder.rejectDuplicateKeys;
+        this.validateSurrogates = builder.validateSurrogates;
+        this.requireInteger = builder.requireInteger;
+        this.requireLong = builder.requireLong;
+        this.requireExactDouble = builder.requireExactDouble;
+        this.maxNumberDigits = builder.maxNumberDigits;
+        this.maxNumberExponent = builder.maxNumberExponent;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public long maxDocumentSize() {
+        return maxDocumentSize;
+    }
+
+    public int maxDepth() {
+        return maxDepth;
+    }
+
+    public int maxStringLength() {
+        return maxStringLength;
+    }
+
+    public int maxNumberLength() {
+        return maxNumberLength;
+    }
+
+    public int maxMembers() {
+        return maxMembers;
+    }
+
+    public boolean rejectDuplicateKeys() {
+        return rejectDuplicateKeys;
+    }
+
+    public boolean validateSurrogates() {
+        return validateSurrogates;
+    }
+
+    public boolean requireInteger() {
+        return requireInteger;
+    }
+
+    public boolean requireLong() {
+        return requireLong;
+    }
+
+    public boolean requireExactDouble() {
+        return requireExactDouble;
+    }
+
+    public int maxNumberDigits() {
+        return maxNumberDigits;
+    }
+
+    public int maxNumberExponent() {
+        return maxNumberExponent;
+    }
+
+    /**
+     * 是否设置了任何一项数字规则
+     */
+    boolean checksNumbers() {
+        return requireInteger || requireLong || requireExactDouble
+                || maxNumberDigits < Integer.MAX_VALUE || maxNumberExponent < Integer.MAX_VALUE;
+    }
+
+    /**
+     * 除最大嵌套深度外都没有设置，{@code VectorJsonValidator} 只实现了这一项
+     */
+    boolean limitsDepthOnly() {
+        return maxDocumentSize == Long.MAX_VALUE && maxStringLength == Integer.MAX_VALUE
+                && maxNumberLength == Integer.MAX_VALUE && maxMembers == Integer.MAX_VALUE
+                && !rejectDuplicateKeys && !validateSurrogates && !checksNumbers();
+    }
+
+    public static final class Builder {
+        private long maxDocumentSize = Long.MAX_VALUE;
+        private int maxDepth = JsonValidator.DEFAULT_MAX_DEPTH;
+        private int maxStringLength = Integer.MAX_VALUE;
+        private int maxNumberLength = Integer.MAX_VALUE;
+        private int maxMembers = Integer.MAX_VALUE;
+        private boolean rejectDuplicateKeys;
+        private boolean validateSurrogates;
+        private boolean requireInteger;
+        private boolean requireLong;
+        private boolean requireExactDouble;
+        private int maxNumberDigits = Integer.MAX_VALUE;
+        private int maxNumberExponent = Integer.MAX_VALUE;
+
+        private Builder() {
+        }
+
+        /**
+         * @param maxDocumentSize 整篇文档的最大长度
+         */
+        public Builder maxDocumentSize(long maxDocumentSize) {
+            if (maxDocumentSize < 0) throw new IllegalArgumentException("maxDocumentSize: " + maxDocumentSize);
+            this.maxDocumentSize = maxDocumentSize;
+            return this;
+        }
+
+        /**
+         * @param maxDepth 对象和数组的最大嵌套深度
+         */
+        public Builder maxDepth(int maxDepth) {
+            if (maxDepth < 1) throw new IllegalArgumentException("maxDepth: " + maxDepth);
+            this.maxDepth = maxDepth;
+            return this;
+        }
+
+        /**
+         * @param maxStringLength 字符串（包括键）内容的最大长度
+         */
+        public Builder maxStringLength(int maxStringLength) {
+            if (maxStringLength < 0) throw new IllegalArgumentException("maxStringLength: " + maxStringLength);
+            this.maxStringLength = maxStringLength;
+            return this;
+        }
+
+        /**
+         * @param maxNumberLength 数字的最大长度，包括符号、小数点和指数部分
+         */
+        public Builder maxNumberLength(int maxNumberLength) {
+            if (maxNumberLength < 1) throw new IllegalArgumentException("maxNumberLength: " + maxNumberLength);
+            this.maxNumberLength = maxNumberLength;
+            return this;
+        }
+
+        /**
+         * @param maxMembers 单个对象的最大成员数
+         */
+        public Builder maxMembers(int maxMembers) {
+            if (maxMembers < 0) throw new IllegalArgumentException("maxMembers: " + maxMembers);
+            this.maxMembers = maxMembers;
+            return this;
+        }
+
+        /**
+         * @param rejectDuplicateKeys 同一对象里出现重复键时判为非法，键按解码后的内容比较，转义写法与原字符视为相同。
+         *                            只支持内存里的输入，见类注释
+         */
+        public Builder rejectDuplicateKeys(boolean rejectDuplicateKeys) {
+            this.rejectDuplicateKeys = rejectDuplicateKeys;
+            return this;
+        }
+
+        /**
+         * @param validateSurrogates Unicode转义里的高代理（D800~DBFF）后面必须紧跟一个低代理（DC00~DFFF）的转义，
+         *                           低代理也不能单独出现；只检查转义写法，String 输入里未转义的字符不检查
+         */
+        public Builder validateSurrogates(boolean validateSurrogates) {
+            this.validateSurrogates = validateSurrogates;
+            return this;
+        }
+
+        /**
+         * @param requireInteger 数字只能写成整数，不能带小数点和指数，1.0 和 1e3 都判为非法
+         */
+        public Builder requireInteger(boolean requireInteger) {
+            this.requireInteger = requireInteger;
+            return this;
+        }
+
+        /**
+         * @param requireLong 数字只能写成整数，且在long的范围内
+         */
+        public Builder requireLong(boolean requireLong) {
+            this.requireLong = requireLong;
+            return this;
+        }
+
+        /**
+         * @param requireExactDouble 数字的值必须能用double精确表示，比如大于2^53的奇数、0.1都判为非法，0.5、1e22合法。
+         *                           只看不超过19位有效数字的写法，更长的一律判为非法，哪怕它的值能精确表示。
+         *                           完整写出的double精确值大多超过19位，如 2^64 = 18446744073709551616、
+         *                           2^-30 = 9.31322574615478515625E-10，这样的写法都会被拒绝
+         */
+        public Builder requireExactDouble(boolean requireExactDouble) {
+            this.requireExactDouble = requireExactDouble;
+            return this;
+        }
+
+        /**
+         * @param maxNumberDigits 数字整数部分和小数部分的数字个数之和的上限，不含符号和指数部分
+         */
+        public Builder maxNumberDigits(int maxNumberDigits) {
+            if (maxNumberDigits < 1) throw new IllegalArgumentException("maxNumberDigits: " + maxNumberDigits);
+            this.maxNumberDigits = maxNumberDigits;
+            return this;
+        }
+
+        /**
+         * @param maxNumberExponent 指数部分绝对值的上限，如为0时 1e0 合法、1e1 非法
+         */
+        public Builder maxNumberExponent(int maxNumberExponent) {
+            if (maxNumberExponent < 0) throw new IllegalArgumentException("maxNumberExponent: " + maxNumberExponent);
+            this.maxNumberExponent = maxNumberExponent;
+            return this;
+        }
+
+        public JsonValidatorConfig build() {
+            return new JsonValidatorConfig(this);
+        }
+    }
+}
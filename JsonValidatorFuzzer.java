@@ -0,0 +1,847 @@
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * @describe 差分测试：随机生成合法、残缺和变异的json，用同一份配置分别交给各条校验路径，结果必须与
+ * {@link JsonValidator#validate(byte[], int, int)} 一致。覆盖String、ByteBuffer、按任意位置切开的流式校验、
+ * 输入流和Reader、并行校验的分块拼接、NDJSON跨块的行，以及可用时的向量实现。
+ * 合法输入的 {@link JsonIndex} 与参照实现逐个记号比较。{@link JsonSchema} 支持的各个关键字另有一组固定的用例。
+ * 数字规则另外与按 {@link BigDecimal} 逐个检查数字的结果比较
+ * <p>
+ * 用法：java -Xmx128m JsonValidatorFuzzer [用例数] [种子]，发现不一致时打印输入并以状态码1退出。
+ * 其中NDJSON超长行的用例按堆的大小生成，堆给小一些跑得快
+ */
+public class JsonValidatorFuzzer {
+    /**
+     * 变异时替换进去的字符，偏向会改变结构的那些
+     */
+    private static final String MUTATIONS = "{}[],:\"\\ a1-.eE0+ÿ\u0080\t";
+    /**
+     * 随机拼接的片段，专门制造各种残缺的输入
+     */
+    private static final String[] ATOMS = {"{", "}", "[", "]", ",", ":", " ", "\n", "\"", "\\", "\\\\", "\\\"", "\\u00e9",
+            "\\u12", "a", "1", "-", "0", ".", "e", "true", "null", "fals", "é", "\u001f", "\t", "x", "奈"};
+    /**
+     * 向量实现单独编译，见 {@link #scanner()}
+     */
+    private static final MethodHandle SCANNER = scanner();
+
+    private final Random random;
+    private final Map<String, JsonValidatorConfig> configs = new LinkedHashMap<>();
+    private long cases;
+    private int failures;
+
+    private JsonValidatorFuzzer(long seed) {
+        this.random = new Random(seed);
+        configs.put("default", JsonValidatorConfig.DEFAULT);
+        configs.put("maxDepth=3", JsonValidatorConfig.builder().maxDepth(3).build());
+        configs.put("maxStringLength=10", JsonValidatorConfig.builder().maxStringLength(10).build());
+        configs.put("maxNumberLength=5", JsonValidatorConfig.builder().maxNumberLength(5).build());
+        configs.put("maxMembers=2", JsonValidatorConfig.builder().maxMembers(2).build());
+        configs.put("maxMembers=0", JsonValidatorConfig.builder().maxMembers(0).build());
+        configs.put("validateSurrogates", JsonValidatorConfig.builder().validateSurrogates(true).build());
+        configs.put("requireInteger", JsonValidatorConfig.builder().requireInteger(true).build());
+        configs.put("requireLong", JsonValidatorConfig.builder().requireLong(true).build());
+        configs.put("requireExactDouble", JsonValidatorConfig.builder().requireExactDouble(true).build());
+        configs.put("maxNumberDigits=6", JsonValidatorConfig.builder().maxNumberDigits(6).build());
+        configs.put("maxNumberExponent=20", JsonValidatorConfig.builder().maxNumberExponent(20).build());
+        configs.put("rejectDuplicateKeys", JsonValidatorConfig.builder().rejectDuplicateKeys(true).build());
+    }
+
+    public static void main(String[] args) throws IOException {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 42;
+        JsonValidatorFuzzer fuzzer = new JsonValidatorFuzzer(seed);
+        for (int i = 0; i < count; i++) {
+            fuzzer.document(fuzzer.next(i));
+        }
+        fuzzer.lines(count / 100 + 1);
+        fuzzer.longLine();
+        fuzzer.parallel(4);
+        fuzzer.vectorConfigs(4);
+        fuzzer.collidingKeys(20_000);
+        fuzzer.schemas();
+        System.out.println("cases: " + fuzzer.cases + ", failures: " + fuzzer.failures
+                + (SCANNER != null ? "" : " (vector engine not loaded)"));
+        if (fuzzer.failures > 0) System.exit(1);
+    }
+
+    /**
+     * 第i个输入：三分之一是随机片段，其余是生成的文档，其中一半再随机改掉几个字节
+     */
+    private byte[] next(int i) {
+        StringBuilder sb = new StringBuilder();
+        if (i % 3 == 0) {
+            for (int n = random.nextInt(40); n > 0; n--) sb.append(ATOMS[random.nextInt(ATOMS.length)]);
+        } else {
+            value(sb, 0);
+        }
+        byte[] b = sb.toString().getBytes(StandardCharsets.UTF_8);
+        if (i % 3 == 2 && b.length > 0) {
+            for (int n = 1 + random.nextInt(3); n > 0; n--) {
+                b[random.nextInt(b.length)] = (byte) MUTATIONS.charAt(random.nextInt(MUTATIONS.length()));
+            }
+        }
+        return b;
+    }
+
+    private void value(StringBuilder sb, int depth) {
+        switch (random.nextInt(depth > 6 ? 4 : 7)) {
+            case 0:
+                sb.append(number());
+                break;
+            case 1:
+                sb.append(random.nextBoolean() ? "true" : random.nextBoolean() ? "false" : "null");
+                break;
+            case 2:
+            case 3:
+                string(sb);
+                break;
+            case 4:
+            case 5:
+                sb.append('[');
+                for (int n = random.nextInt(5), k = 0; k < n; k++) {
+                    if (k > 0) sb.append(random.nextBoolean() ? "," : " ,\n ");
+                    value(sb, depth + 1);
+                }
+                sb.append(']');
+                break;
+            default:
+                sb.append('{');
+                for (int n = random.nextInt(5), k = 0; k < n; k++) {
+                    if (k > 0) sb.append(',');
+                    if (random.nextInt(4) == 0) string(sb);
+                    else sb.append("\"k").append(random.nextInt(4)).append('"');
+                    sb.append(random.nextBoolean() ? ":" : " : ");
+                    value(sb, depth + 1);
+                }
+                sb.append('}');
+        }
+    }
+
+    private String number() {
+        switch (random.nextInt(6)) {
+            case 0:
+                return String.valueOf(random.nextInt(1000) - 500);
+            case 1:
+                return String.valueOf(random.nextLong());
+            case 2:
+                return random.nextLong() + "0" + random.nextInt(1000);
+            case 3:
+                return String.valueOf(random.nextInt(1 << 20) / 1024.0);
+            case 4:
+                return random.nextInt(100) + "e" + (random.nextBoolean() ? "-" : "+") + random.nextInt(400);
+            default:
+                return String.valueOf(random.nextDouble());
+        }
+    }
+
+    private void string(StringBuilder sb) {
+        sb.append('"');
+        for (int n = random.nextInt(random.nextInt(6) == 0 ? 150 : 12); n > 0; n--) {
+            switch (random.nextInt(24)) {
+                case 0:
+                    sb.append("\\\\");
+                    break;
+                case 1:
+                    sb.append("\\\"");
+                    break;
+                case 2:
+                    sb.append("é");
+                    break;
+                case 3:
+                    sb.append("\\u0041");
+                    break;
+                case 4:
+                    sb.append("奈");
+                    break;
+                case 5:
+                    sb.append("{,}:[]");
+                    break;
+                case 6:
+                    sb.append("\\ud83d\\ude00");
+                    break;
+                case 7:
+                    sb.append("😀");
+                    break;
+                case 8:
+                    sb.append(random.nextBoolean() ? "\\ud83d" : "\\ude00");
+                    break;
+                default:
+                    sb.append((char) ('a' + random.nextInt(26)));
+            }
+        }
+        sb.append('"');
+    }
+
+    /**
+     * 对每份配置，比较一个输入在各条路径上的结果
+     */
+    private void document(byte[] b) throws IOException {
+        String text = decode(b);
+        List<String> numbers = null;
+        for (Map.Entry<String, JsonValidatorConfig> e : configs.entrySet()) {
+            JsonValidatorConfig config = e.getValue();
+            JsonValidator validator = new JsonValidator(config);
+            boolean expected = validator.validate(b, 0, b.length);
+            String name = e.getKey();
+            if (config.checksNumbers()) {
+                if (numbers == null) numbers = numbers(b);
+                boolean all = numbers != null;
+                for (int k = 0; all && k < numbers.size(); k++) all = allowed(config, numbers.get(k));
+                check(name, "big-decimal", b, all, expected);
+            }
+
+            byte[] padded = new byte[b.length + 5];
+            Arrays.fill(padded, (byte) '"');
+            System.arraycopy(b, 0, padded, 3, b.length);
+            check(name, "bytes+offset", b, expected, validator.validate(padded, 3, b.length));
+            ByteBuffer direct = ByteBuffer.allocateDirect(b.length + 2);
+            direct.position(2);
+            direct.put(b).position(2);
+            check(name, "direct", b, expected, validator.validate(direct));
+            if (config == JsonValidatorConfig.DEFAULT) {
+                check(name, "index", b, true, sameTape(validator.index(padded, 3, b.length), units(b), expected));
+                if (text != null) {
+                    check(name, "index-string", b, true, sameTape(validator.index(text), units(text), expected));
+                }
+            }
+            if (text != null) {
+                // String输入的字符串长度按字符计，有非ASCII字符时可能与按字节计的结果不同
+                boolean chars = validator.validate(text);
+                if (config.maxStringLength() == Integer.MAX_VALUE || text.length() == b.length) {
+                    check(name, "string", b, expected, chars);
+                }
+                stream(config, name, "reader", b, chars, () -> validator.validate(new StringReader(text)));
+            }
+            stream(config, name, "push", b, expected, () -> push(config, b));
+            stream(config, name, "input-stream", b, expected, () -> validator.validate(new Trickle(b, random)));
+            stream(config, name, "stitched", b, expected, () -> stitched(config, b));
+            if (SCANNER != null && vectorizable(config)) {
+                check(name, "vector", b, expected, scan(b, config.maxDepth()));
+            }
+        }
+    }
+
+    /**
+     * 索引与 {@link Walk} 走出的记号逐个比较类型、偏移、长度、配对下标和成员数；输入非法时索引必须为空
+     */
+    private static boolean sameTape(Optional<JsonIndex> index, int[] units, boolean valid) {
+        if (!valid) return index.isEmpty();
+        if (index.isEmpty()) return false;
+        JsonIndex tape = index.get();
+        List<int[]> tokens = new Walk(units).tokens();
+        if (tape.size() != tokens.size()) return false;
+        for (int k = 0; k < tokens.size(); k++) {
+            int[] t = tokens.get(k);
+            int kind = t[0];
+            if (tape.kind(k) != kind || tape.offset(k) != t[1] || tape.length(k) != t[2]) return false;
+            boolean open = kind == JsonIndex.OBJECT || kind == JsonIndex.ARRAY;
+            if (open && tape.close(k) != t[3]) return false;
+            if ((open || kind == JsonIndex.END_OBJECT || kind == JsonIndex.END_ARRAY) && tape.count(k) != t[4]) {
+                return false;
+            }
+            if (kind != JsonIndex.END_OBJECT && kind != JsonIndex.END_ARRAY && tape.next(k) != (open ? t[3] + 1 : k + 1)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int[] units(byte[] b) {
+        int[] units = new int[b.length];
+        for (int k = 0; k < b.length; k++) units[k] = b[k] & 0xFF;
+        return units;
+    }
+
+    private static int[] units(String s) {
+        return s.chars().toArray();
+    }
+
+    /**
+     * 语法合法时返回其中所有数字的写法，否则返回null
+     */
+    private static List<String> numbers(byte[] b) {
+        if (!new JsonValidator().validate(b, 0, b.length)) return null;
+        List<String> numbers = new ArrayList<>();
+        for (int i = 0; i < b.length; ) {
+            int c = b[i];
+            if (c == '"') {
+                for (i++; b[i] != '"'; i++) {
+                    if (b[i] == '\\') i++;
+                }
+                i++;
+            } else if (c == '-' || c >= '0' && c <= '9') {
+                int start = i;
+                while (i < b.length && "0123456789+-.eE".indexOf(b[i]) >= 0) i++;
+                numbers.add(new String(b, start, i - start, StandardCharsets.US_ASCII));
+            } else {
+                i++;
+            }
+        }
+        return numbers;
+    }
+
+    /**
+     * 参照实现：按配置里的数字规则检查一个数字，数值都用 {@link BigDecimal} 精确计算
+     */
+    private static boolean allowed(JsonValidatorConfig config, String number) {
+        int e = Math.max(number.indexOf('e'), number.indexOf('E'));
+        String mantissa = e < 0 ? number : number.substring(0, e);
+        boolean integer = e < 0 && mantissa.indexOf('.') < 0;
+        BigInteger exponent = e < 0 ? BigInteger.ZERO : new BigInteger(number.substring(e + 1)).abs();
+        if ((config.requireInteger() || config.requireLong()) && !integer) return false;
+        if (mantissa.replaceAll("[^0-9]", "").length() > config.maxNumberDigits()) return false;
+        if (config.maxNumberExponent() != Integer.MAX_VALUE
+                && exponent.compareTo(BigInteger.valueOf(config.maxNumberExponent())) > 0) {
+            return false;
+        }
+        if (config.requireLong()) {
+            BigDecimal value = new BigDecimal(number);
+            if (value.compareTo(BigDecimal.valueOf(Long.MIN_VALUE)) < 0
+                    || value.compareTo(BigDecimal.valueOf(Long.MAX_VALUE)) > 0) {
+                return false;
+            }
+        }
+        if (config.requireExactDouble() && new BigDecimal(mantissa).signum() != 0) {
+            // 指数大到BigDecimal都表示不了时，值远在double范围之外
+            if (exponent.bitLength() > 20) return false;
+            BigDecimal value = new BigDecimal(number);
+            // 超过19位有效数字的写法一律拒绝
+            if (value.stripTrailingZeros().precision() > 19) return false;
+            double d = Double.parseDouble(number);
+            return !Double.isInfinite(d) && new BigDecimal(d).compareTo(value) == 0;
+        }
+        return true;
+    }
+
+    /**
+     * 流式的路径：配置里有流式校验不支持的项时必须拒绝，否则结果必须一致
+     */
+    private void stream(JsonValidatorConfig config, String name, String path, byte[] b, boolean expected, Run run)
+            throws IOException {
+        if (streamable(config)) {
+            check(name, path, b, expected, run.run());
+            return;
+        }
+        cases++;
+        try {
+            run.run();
+        } catch (IllegalArgumentException e) {
+            return;
+        }
+        failures++;
+        System.out.println("MISMATCH [" + name + "] " + path + ": expected IllegalArgumentException");
+    }
+
+    private static boolean streamable(JsonValidatorConfig config) {
+        return JsonStreamValidator.supports(config);
+    }
+
+    private interface Run {
+        boolean run() throws IOException;
+    }
+
+    /**
+     * 向量实现与其他类分开编译（见README），在类路径上且加载了 jdk.incubator.vector 时返回 VectorScanner.validate，
+     * 否则返回null。直接测扫描本身，不经过 VectorJsonValidator 对短输入退回标量实现的规则
+     */
+    private static MethodHandle scanner() {
+        try {
+            Class<?> type = Class.forName("VectorJsonValidator");
+            if (!(boolean) type.getMethod("isAvailable").invoke(null)) return null;
+            return MethodHandles.lookup().findStatic(Class.forName("VectorScanner"), "validate",
+                    MethodType.methodType(boolean.class, byte[].class, int.class, int.class, int.class));
+        } catch (ClassNotFoundException e) {
+            return null;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 按配置构造的 VectorJsonValidator 与同一配置的 JsonValidator 结果一致：只限制嵌套深度的配置走向量扫描，
+     * 其余配置必须全部交给标量实现。文档以长字符串为主，长度超过向量实现的下限，保证真的走到向量扫描
+     */
+    private void vectorConfigs(int rounds) {
+        if (SCANNER == null) return;
+        for (int r = 0; r < rounds; r++) {
+            StringBuilder sb = new StringBuilder("[");
+            while (sb.length() < 64 << 10) {
+                if (sb.length() > 1) sb.append(',');
+                if (random.nextInt(8) == 0) {
+                    value(sb, 5);
+                } else {
+                    sb.append('"');
+                    for (int n = 50 + random.nextInt(200); n > 0; n--) sb.append((char) ('a' + random.nextInt(26)));
+                    sb.append('"');
+                }
+            }
+            byte[] b = sb.append(']').toString().getBytes(StandardCharsets.UTF_8);
+            if ((r & 1) == 1) b[random.nextInt(b.length)] = (byte) MUTATIONS.charAt(random.nextInt(MUTATIONS.length()));
+            for (Map.Entry<String, JsonValidatorConfig> e : configs.entrySet()) {
+                boolean expected = new JsonValidator(e.getValue()).validate(b, 0, b.length);
+                try {
+                    Class<?> type = Class.forName("VectorJsonValidator");
+                    Object engine = type.getConstructor(JsonValidatorConfig.class).newInstance(e.getValue());
+                    boolean actual = (boolean) type.getMethod("validate", byte[].class, int.class, int.class)
+                            .invoke(engine, b, 0, b.length);
+                    check(e.getKey(), "vector-config", Arrays.copyOf(b, 200), expected, actual);
+                } catch (ReflectiveOperationException ex) {
+                    throw new IllegalStateException(ex);
+                }
+            }
+        }
+    }
+
+    private static boolean scan(byte[] b, int maxDepth) {
+        try {
+            return (boolean) SCANNER.invokeExact(b, 0, b.length, maxDepth);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 向量实现只支持最大嵌套深度
+     */
+    private static boolean vectorizable(JsonValidatorConfig config) {
+        return config.limitsDepthOnly();
+    }
+
+    /**
+     * 按随机长度切开，交替以byte[]和直接内存的ByteBuffer喂给同一个可复用的实例
+     */
+    private boolean push(JsonValidatorConfig config, byte[] b) {
+        JsonStreamValidator stream = new JsonStreamValidator(config);
+        stream.feed(new byte[]{'['});
+        stream.reset();
+        boolean ok = true;
+        for (int p = 0, k = 0; p < b.length && ok; k++) {
+            int n = Math.min(b.length - p, 1 + random.nextInt(6));
+            if ((k & 1) == 0) {
+                ok = stream.feed(Arrays.copyOfRange(b, p, p + n));
+            } else {
+                ByteBuffer d = ByteBuffer.allocateDirect(n);
+                d.put(b, p, n).flip();
+                ok = stream.feed(d);
+            }
+            p += n;
+        }
+        return ok && stream.finish();
+    }
+
+    /**
+     * 与 {@link JsonParallelValidator} 相同的分块拼接，只是块很小：随机挑一些可以切分的 ',' 切开，
+     * 每块分别按起点在字符串外部和内部各校验一遍，再依次拼接
+     */
+    private boolean stitched(JsonValidatorConfig config, byte[] b) {
+        List<Integer> cuts = new ArrayList<>();
+        cuts.add(0);
+        for (int i = 1; i < b.length; i++) {
+            if (b[i] == ',' && b[i - 1] != '\\' && random.nextInt(3) == 0) cuts.add(i);
+        }
+        cuts.add(b.length);
+        JsonStreamValidator doc = new JsonStreamValidator(true, config);
+        doc.feed(b, 0, cuts.get(1));
+        for (int i = 1; i + 1 < cuts.size(); i++) {
+            int from = cuts.get(i), to = cuts.get(i + 1);
+            JsonStreamValidator out = new JsonStreamValidator(true, config, false);
+            JsonStreamValidator in = new JsonStreamValidator(true, config, true);
+            out.feed(b, from, to - from);
+            in.feed(b, from, to - from);
+            if (!doc.append(out, in)) return false;
+        }
+        return doc.finish();
+    }
+
+    /**
+     * NDJSON：逐行的结果要与各行单独校验一致，不论行是否跨过读取的块边界
+     */
+    private void lines(int rounds) throws IOException {
+        for (Map.Entry<String, JsonValidatorConfig> e : configs.entrySet()) {
+            JsonValidator validator = new JsonValidator(e.getValue());
+            JsonLinesValidator lines = new JsonLinesValidator(validator, null);
+            for (int r = 0; r < rounds; r++) {
+                StringBuilder sb = new StringBuilder();
+                List<Long> expected = new ArrayList<>();
+                for (int line = 0; sb.length() < 3 * JsonStreamValidator.CHUNK_SIZE; line++) {
+                    StringBuilder text = new StringBuilder();
+                    if (random.nextInt(20) == 0) {
+                        // 偶尔来一行很长的，保证有跨过几个块的行
+                        text.append('[');
+                        for (int k = 0; k < 400; k++) {
+                            if (k > 0) text.append(',');
+                            value(text, 3);
+                        }
+                        text.append(']');
+                    } else {
+                        text.append(new String(next(line + 1), StandardCharsets.UTF_8));
+                    }
+                    byte[] b = text.toString().replace('\n', ' ').getBytes(StandardCharsets.UTF_8);
+                    if (!validator.validate(b, 0, b.length)) expected.add((long) line);
+                    sb.append(new String(b, StandardCharsets.UTF_8)).append('\n');
+                }
+                byte[] doc = sb.toString().getBytes(StandardCharsets.UTF_8);
+                long[] want = expected.stream().mapToLong(Long::longValue).toArray();
+                cases += 2;
+                if (!Arrays.equals(want, lines.validate(doc, 0, doc.length))
+                        || !Arrays.equals(want, lines.validate(new Trickle(doc, random)))) {
+                    failures++;
+                    System.out.println("MISMATCH [" + e.getKey() + "] lines: expected " + Arrays.toString(want));
+                }
+            }
+        }
+    }
+
+    /**
+     * NDJSON里一行比整个堆还长：流式校验支持的配置下跨块的行必须交给流式校验，不能整行留在内存里
+     */
+    private void longLine() throws IOException {
+        byte[] tail = "\n{\"a\":1}\n{\"a\":}\n".getBytes(StandardCharsets.UTF_8);
+        long[] invalid = new JsonLinesValidator().validate(new LongLine(Runtime.getRuntime().maxMemory(), tail));
+        cases++;
+        if (!Arrays.equals(invalid, new long[]{2})) {
+            failures++;
+            System.out.println("MISMATCH [default] long line: expected [2], got " + Arrays.toString(invalid));
+        }
+    }
+
+    /**
+     * 真正的并行校验只在输入不小于2MB时才分块，拼一些大文档，一半合法一半在随机位置改坏
+     */
+    private void parallel(int rounds) throws IOException {
+        for (Map.Entry<String, JsonValidatorConfig> e : configs.entrySet()) {
+            JsonValidator validator = new JsonValidator(e.getValue());
+            if (!streamable(e.getValue())) {
+                stream(e.getValue(), e.getKey(), "parallel", new byte[0], false,
+                        () -> new JsonParallelValidator(validator, ForkJoinPool.commonPool()).validate(new byte[0], 0, 0));
+                continue;
+            }
+            JsonParallelValidator parallel = new JsonParallelValidator(validator, ForkJoinPool.commonPool());
+            for (int r = 0; r < rounds; r++) {
+                StringBuilder sb = new StringBuilder("[");
+                while (sb.length() < 3 << 20) {
+                    if (sb.length() > 1) sb.append(',');
+                    value(sb, 1);
+                }
+                byte[] b = sb.append(']').toString().getBytes(StandardCharsets.UTF_8);
+                if ((r & 1) == 1) b[random.nextInt(b.length)] = (byte) MUTATIONS.charAt(random.nextInt(MUTATIONS.length()));
+                check(e.getKey(), "parallel", Arrays.copyOf(b, 200), validator.validate(b, 0, b.length),
+                        parallel.validate(b, 0, b.length));
+            }
+        }
+    }
+
+    /**
+     * 拒绝重复键时，n个在不带种子的乘法散列下全部相同的键：结果要正确，耗时也不能比同样多的普通键高出一个量级。
+     * 键是三个码点，前两个任取，最后一个把散列凑成0，最后一个码点超出范围的组合丢掉
+     */
+    private void collidingKeys(int n) {
+        StringBuilder colliding = new StringBuilder("{");
+        StringBuilder plain = new StringBuilder("{");
+        String first = null;
+        for (int a = 0x100, count = 0; count < n; a++) {
+            for (int b = 0x100; b < 0xD800 && count < n; b++) {
+                int c = ((a * 0x9E3779B1) ^ b) * 0x9E3779B1;
+                if (c < 0x20 || c >= 0x110000 || c == '"' || c == '\\' || c >= 0xD800 && c < 0xE000) continue;
+                String key = new StringBuilder().appendCodePoint(a).appendCodePoint(b).appendCodePoint(c).toString();
+                if (first == null) first = key;
+                colliding.append(count == 0 ? "\"" : ",\"").append(key).append("\":0");
+                plain.append(count == 0 ? "\"" : ",\"").append(count).append("\":0");
+                count++;
+            }
+        }
+        byte[] unique = colliding.append('}').toString().getBytes(StandardCharsets.UTF_8);
+        byte[] normal = plain.append('}').toString().getBytes(StandardCharsets.UTF_8);
+        // 重复的键用转义写出第一个码点，解码后与第一个键相同
+        colliding.setLength(colliding.length() - 1);
+        colliding.append(",\"\\u").append(String.format("%04x", (int) first.charAt(0))).append(first.substring(1)).append("\":0}");
+        byte[] duplicate = colliding.toString().getBytes(StandardCharsets.UTF_8);
+
+        JsonValidator validator = new JsonValidator(JsonValidatorConfig.builder().rejectDuplicateKeys(true).build());
+        check("rejectDuplicateKeys", "colliding keys", unique, true, validator.validate(unique, 0, unique.length));
+        check("rejectDuplicateKeys", "colliding keys", duplicate, false, validator.validate(duplicate, 0, duplicate.length));
+        long slow = Long.MAX_VALUE, fast = Long.MAX_VALUE;
+        for (int r = 0; r < 5; r++) {
+            long t0 = System.nanoTime();
+            validator.validate(unique, 0, unique.length);
+            long t1 = System.nanoTime();
+            validator.validate(normal, 0, normal.length);
+            slow = Math.min(slow, t1 - t0);
+            fast = Math.min(fast, System.nanoTime() - t1);
+        }
+        cases++;
+        if (slow > 10 * fast + 20_000_000L) {
+            failures++;
+            System.out.println("MISMATCH [rejectDuplicateKeys] colliding keys: " + slow / 1_000_000 + " ms against "
+                    + fast / 1_000_000 + " ms for plain keys");
+        }
+    }
+
+    /**
+     * JsonSchema 声称支持的每个关键字各有符合和不符合的文档；不支持的关键字和写法必须在编译时报错
+     */
+    private void schemas() {
+        schema("{\"type\":\"string\"}", true, "\"a\"", "\"\"");
+        schema("{\"type\":\"string\"}", false, "1", "null", "[\"a\"]", "\"a");
+        schema("{\"type\":\"integer\"}", true, "3", "-3", "3.0", "1e2", "1.5e1");
+        schema("{\"type\":\"integer\"}", false, "3.5", "1e-1", "\"3\"");
+        schema("{\"type\":\"number\"}", true, "-0.5", "7");
+        schema("{\"type\":[\"null\",\"boolean\"]}", true, "null", "true", "false");
+        schema("{\"type\":[\"null\",\"boolean\"]}", false, "0", "{}");
+        schema("{\"type\":\"object\"}", true, "{}", "{\"a\":[1]}");
+        schema("{\"type\":\"object\"}", false, "[]", "{\"a\":}");
+        schema("{\"type\":\"array\"}", true, "[]", "[{}]");
+        schema("{\"type\":\"array\"}", false, "{}", "\"[]\"");
+
+        schema("{\"enum\":[\"a\",1,true,null]}", true, "\"a\"", "\"\\u0061\"", "1", "1.0", "10e-1", "true", "null");
+        schema("{\"enum\":[\"a\",1,true,null]}", false, "\"b\"", "\"A\"", "2", "false", "[]");
+        schema("{\"const\":\"é\"}", true, "\"é\"", "\"\\u00e9\"");
+        schema("{\"const\":\"é\"}", false, "\"e\"", "\"éé\"");
+
+        schema("{\"minimum\":1,\"maximum\":10}", true, "1", "10", "5.5", "1e1", "\"100\"");
+        schema("{\"minimum\":1,\"maximum\":10}", false, "0", "0.999", "11", "10.5", "1e2");
+        schema("{\"exclusiveMinimum\":0,\"exclusiveMaximum\":1}", true, "0.5", "1e-400", "0.999999999999999999999");
+        schema("{\"exclusiveMinimum\":0,\"exclusiveMaximum\":1}", false, "0", "1", "-0.0", "1.0", "1e400");
+        schema("{\"minimum\":-9223372036854775809}", true, "-9223372036854775808", "-9223372036854775809");
+        schema("{\"minimum\":-9223372036854775809}", false, "-9223372036854775810", "-1e19");
+
+        // 长度按码点计：😀 是一个码点，两个UTF-16单元，四个UTF-8字节
+        schema("{\"minLength\":2,\"maxLength\":2}", true, "\"😀a\"", "\"\\ud83d\\ude00a\"", "\"\\\"\\\\\"", "\"éé\"", "1");
+        schema("{\"minLength\":2,\"maxLength\":2}", false, "\"a\"", "\"abc\"", "\"😀\"", "\"\"");
+        schema("{\"pattern\":\"^a+$\"}", true, "\"aa\"", "\"\\u0061\"", "1");
+        schema("{\"pattern\":\"^a+$\"}", false, "\"ab\"", "\"\"");
+        schema("{\"pattern\":\"b\"}", true, "\"abc\"");
+        schema("{\"pattern\":\"b\"}", false, "\"ac\"");
+
+        String person = "{\"properties\":{\"a\":{\"type\":\"integer\"},\"b\":{\"properties\":{\"c\":{\"const\":0}}}},"
+                + "\"required\":[\"a\"]}";
+        schema(person, true, "{\"a\":1}", "{\"\\u0061\":2,\"x\":\"y\"}", "{\"a\":1,\"b\":{\"c\":0,\"d\":[]}}",
+                "[]");
+        schema(person, false, "{}", "{\"b\":{}}", "{\"a\":\"1\"}", "{\"a\":1,\"b\":{\"c\":1}}");
+        schema("{\"minProperties\":1,\"maxProperties\":2}", true, "{\"a\":1}", "{\"a\":1,\"b\":{\"c\":1,\"d\":2,\"e\":3}}");
+        schema("{\"minProperties\":1,\"maxProperties\":2}", false, "{}", "{\"a\":1,\"b\":2,\"c\":3}");
+        schema("{\"items\":{\"type\":\"number\"},\"minItems\":1,\"maxItems\":2}", true, "[1]", "[1,2.5]", "{}");
+        schema("{\"items\":{\"type\":\"number\"},\"minItems\":1,\"maxItems\":2}", false, "[]", "[1,2,3]", "[1,\"a\"]");
+        schema("{\"items\":{\"items\":{\"const\":0}}}", true, "[[0],[],[0,0]]");
+        schema("{\"items\":{\"items\":{\"const\":0}}}", false, "[[0],[1]]", "[[0],[[0]]]");
+
+        schema("true", true, "null", "{\"a\":[1]}");
+        schema("false", false, "null", "{}", "0");
+        schema("{\"properties\":{\"a\":false}}", true, "{\"b\":1}");
+        schema("{\"properties\":{\"a\":false}}", false, "{\"a\":null}");
+        schema("{\"items\":false}", true, "[]");
+        schema("{\"items\":false}", false, "[0]");
+        schema("{\"title\":\"x\",\"format\":\"email\",\"type\":\"string\"}", true, "\"x\"");
+
+        for (String schema : new String[]{"{\"$ref\":\"#\"}", "{\"allOf\":[]}", "{\"anyOf\":[]}", "{\"oneOf\":[]}",
+                "{\"not\":{}}", "{\"if\":{}}", "{\"additionalProperties\":false}", "{\"patternProperties\":{}}",
+                "{\"uniqueItems\":true}", "{\"multipleOf\":2}", "{\"contains\":{}}", "{\"prefixItems\":[]}",
+                "{\"properties\":{\"a\":{\"allOf\":[]}}}", "{\"items\":[{}]}", "{\"type\":\"text\"}",
+                "{\"minLength\":-1}", "{\"pattern\":\"(\"}", "{\"a\":1,\"a\":2}", "{", "", "1"}) {
+            cases++;
+            try {
+                JsonSchema.compile(schema);
+            } catch (IllegalArgumentException e) {
+                continue;
+            }
+            failures++;
+            System.out.println("MISMATCH [schema] " + schema + ": expected IllegalArgumentException");
+        }
+    }
+
+    /**
+     * 每个文档在String、byte[] 和直接内存的ByteBuffer上对schema的结果都应为expected，diagnose也要一致
+     */
+    private void schema(String source, boolean expected, String... docs) {
+        JsonSchema schema = JsonSchema.compile(source);
+        JsonValidator validator = new JsonValidator();
+        for (String doc : docs) {
+            byte[] b = doc.getBytes(StandardCharsets.UTF_8);
+            ByteBuffer direct = ByteBuffer.allocateDirect(b.length).put(b).flip();
+            String name = "schema " + source;
+            check(name, "string", b, expected, validator.validate(doc, schema));
+            check(name, "bytes", b, expected, validator.validate(b, 0, b.length, schema));
+            check(name, "direct", b, expected, validator.validate(direct, schema));
+            check(name, "diagnose", b, expected, validator.diagnose(b, 0, b.length, schema).isEmpty());
+        }
+    }
+
+    private void check(String config, String path, byte[] b, boolean expected, boolean actual) {
+        cases++;
+        if (expected == actual) return;
+        failures++;
+        String text = new String(b, StandardCharsets.UTF_8);
+        System.out.println("MISMATCH [" + config + "] " + path + ": expected " + expected + ", got " + actual + ": "
+                + (text.length() > 200 ? text.substring(0, 200) + "..." : text));
+    }
+
+    /**
+     * 合法的UTF-8解码成String，否则返回null，这样的输入不走String和Reader路径
+     */
+    private static String decode(byte[] b) {
+        try {
+            CharBuffer chars = StandardCharsets.UTF_8.newDecoder().decode(ByteBuffer.wrap(b));
+            return chars.toString();
+        } catch (CharacterCodingException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 参照实现：对语法合法的输入递归下降，按出现顺序记下每个记号的 {类型, 偏移, 长度, 配对下标, 成员数}，
+     * 没有的项为-1。输入是字节或UTF-16单元，偏移和长度都按单元计
+     */
+    private static final class Walk {
+        private final int[] in;
+        private final List<int[]> tokens = new ArrayList<>();
+        private int pos;
+
+        Walk(int[] in) {
+            this.in = in;
+        }
+
+        List<int[]> tokens() {
+            skip();
+            if (pos < in.length) value();
+            return tokens;
+        }
+
+        private void value() {
+            skip();
+            int c = in[pos], start = pos;
+            if (c == '{' || c == '[') {
+                boolean object = c == '{';
+                int open = tokens.size(), count = 0;
+                tokens.add(null);
+                pos++;
+                skip();
+                if (in[pos] != (object ? '}' : ']')) {
+                    for (; ; ) {
+                        if (object) {
+                            skip();
+                            int key = pos;
+                            string();
+                            tokens.add(new int[]{JsonIndex.KEY, key, pos - key, -1, -1});
+                            skip();
+                            pos++;
+                        }
+                        value();
+                        count++;
+                        skip();
+                        if (in[pos] != ',') break;
+                        pos++;
+                    }
+                }
+                int close = tokens.size();
+                tokens.set(open, new int[]{object ? JsonIndex.OBJECT : JsonIndex.ARRAY, start, pos + 1 - start, close, count});
+                tokens.add(new int[]{object ? JsonIndex.END_OBJECT : JsonIndex.END_ARRAY, pos, 1, -1, count});
+                pos++;
+                return;
+            }
+            int kind;
+            if (c == '"') {
+                string();
+                kind = JsonIndex.STRING;
+            } else if (c == 't' || c == 'n') {
+                pos += 4;
+                kind = c == 't' ? JsonIndex.TRUE : JsonIndex.NULL;
+            } else if (c == 'f') {
+                pos += 5;
+                kind = JsonIndex.FALSE;
+            } else {
+                while (pos < in.length && "0123456789+-.eE".indexOf(in[pos]) >= 0) pos++;
+                kind = JsonIndex.NUMBER;
+            }
+            tokens.add(new int[]{kind, start, pos - start, -1, -1});
+        }
+
+        private void string() {
+            for (pos++; in[pos] != '"'; pos++) {
+                if (in[pos] == '\\') pos++;
+            }
+            pos++;
+        }
+
+        private void skip() {
+            while (pos < in.length && (in[pos] == ' ' || in[pos] == '\t' || in[pos] == '\n' || in[pos] == '\r')) pos++;
+        }
+    }
+
+    /**
+     * 现场生成的一行 [0,0,...,0]，至少有给定的长度，后面接上tail
+     */
+    private static final class LongLine extends InputStream {
+        private final long length;
+        private final byte[] tail;
+        private long pos;
+
+        LongLine(long min, byte[] tail) {
+            // 长度取奇数，这样 ']' 前面正好是 '0'
+            this.length = min | 1;
+            this.tail = tail;
+        }
+
+        @Override
+        public int read() {
+            if (pos == length + tail.length) return -1;
+            long p = pos++;
+            if (p >= length) return tail[(int) (p - length)];
+            return p == 0 ? '[' : p == length - 1 ? ']' : (p & 1) == 1 ? '0' : ',';
+        }
+
+        @Override
+        public int read(byte[] dst, int off, int len) {
+            int n = 0;
+            for (int c; n < len && (c = read()) != -1; n++) dst[off + n] = (byte) c;
+            return n == 0 && len > 0 ? -1 : n;
+        }
+    }
+
+    /**
+     * 每次只返回随机的几个字节，让token在任意位置被读取的块边界切开
+     */
+    private static final class Trickle extends InputStream {
+        private final byte[] b;
+        private final Random random;
+        private int pos;
+
+        Trickle(byte[] b, Random random) {
+            this.b = b;
+            this.random = random;
+        }
+
+        @Override
+        public int read() {
+            return pos < b.length ? b[pos++] & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] dst, int off, int len) {
+            if (pos >= b.length) return -1;
+            int n = Math.min(Math.min(len, 1 + random.nextInt(random.nextBoolean() ? 7 : 5000)), b.length - pos);
+            System.arraycopy(b, pos, dst, off, n);
+            pos += n;
+            return n;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package benchmark;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @describe JsonValidator 的JMH基准测试，语料与 JsonValidatorBenchmark 相同。每个用例单独fork，
+ * 输出吞吐量，{@link Bytes#bytes} 给出每秒校验的字节数（倒数就是每字节耗时），
+ * 加 -prof gc 给出分配速率和每次调用分配的字节数
+ * <p>
+ * JMH不接受默认包里的基准测试类，而命名包又不能引用默认包里的类，所以这里通过 {@link MethodHandle} 调用，
+ * 句柄是静态常量，JIT会把它内联成直接调用
+ * <p>
+ * 用法：mvn -Pjmh package &amp;&amp; java -jar target/benchmarks.jar -prof gc，见README
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx1g")
+public class ValidateBenchmark {
+    private static final MethodHandle STRING;
+    private static final MethodHandle BYTES;
+    private static final MethodHandle DOCUMENT;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            Class<?> validator = Class.forName("JsonValidator");
+            Object instance = validator.getConstructor().newInstance();
+            STRING = lookup.findVirtual(validator, "validate", MethodType.methodType(boolean.class, String.class))
+                    .bindTo(instance);
+            BYTES = lookup.findVirtual(validator, "validate",
+                    MethodType.methodType(boolean.class, byte[].class, int.class, int.class)).bindTo(instance);
+            DOCUMENT = lookup.findStatic(Class.forName("JsonValidatorBenchmark"), "document",
+                    MethodType.methodType(String.class, String.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @Param({"tiny", "1kb", "1mb", "100mb", "deep", "strings", "numbers", "cjk", "invalid-head", "invalid-tail"})
+    public String doc;
+
+    private String text;
+    private byte[] bytes;
+
+    @Setup
+    public void setup() throws Throwable {
+        text = (String) DOCUMENT.invokeExact(doc);
+        bytes = text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public boolean string(Bytes counter) throws Throwable {
+        counter.bytes += bytes.length;
+        return (boolean) STRING.invokeExact(text);
+    }
+
+    @Benchmark
+    public boolean bytes(Engine engine, Bytes counter) throws Throwable {
+        counter.bytes += bytes.length;
+        if (engine.vector == null) return (boolean) BYTES.invokeExact(bytes, 0, bytes.length);
+        return (boolean) engine.vector.invokeExact(bytes, 0, bytes.length);
+    }
+
+    /**
+     * 每秒校验的字节数，按UTF-8计，String输入也一样，方便与字节输入对比
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Bytes {
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void clear() {
+            bytes = 0;
+        }
+    }
+
+    /**
+     * 字节输入用哪个实现，默认只测标量实现，加 -p engine=scalar,vector 同时测 VectorJsonValidator。
+     * 后者要用 -Pjmh,vector 打包，运行时加 -jvmArgsAppend --add-modules=jdk.incubator.vector
+     */
+    @State(Scope.Benchmark)
+    public static class Engine {
+        @Param({"scalar"})
+        public String engine;
+
+        /**
+         * 标量实现时为null，直接用常量句柄 {@link ValidateBenchmark#BYTES}
+         */
+        MethodHandle vector;
+
+        @Setup
+        public void setup() throws ReflectiveOperationException {
+            if (engine.equals("scalar")) return;
+            if (!engine.equals("vector")) throw new IllegalArgumentException("unknown engine: " + engine);
+            Class<?> type;
+            try {
+                type = Class.forName("VectorJsonValidator");
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException("VectorJsonValidator is not packaged, build with -Pjmh,vector", e);
+            }
+            if (!(boolean) type.getMethod("isAvailable").invoke(null)) {
+                throw new IllegalStateException("jdk.incubator.vector is not loaded, run with "
+                        + "-jvmArgsAppend --add-modules=jdk.incubator.vector");
+            }
+            vector = MethodHandles.publicLookup()
+                    .findVirtual(type, "validate", MethodType.methodType(boolean.class, byte[].class, int.class, int.class))
+                    .bindTo(type.getConstructor().newInstance());
+        }
+    }
+}
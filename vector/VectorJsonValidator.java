@@ -0,0 +1,112 @@
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * @describe 用 Vector API 按块扫描的json校验，结果与按同一份配置构造的 {@link JsonValidator} 一致。
+ * 向量扫描只实现了最大嵌套深度这一项限制，配置里设置了其他任何一项时所有输入都走标量实现。
+ * 运行时没有加载 jdk.incubator.vector 模块（启动参数 --add-modules jdk.incubator.vector）时，
+ * 自动退回标量实现；字符串输入和堆外缓冲区也走标量实现。实例不可变，可以在多个线程间共享
+ * <p>
+ * 向量实现只在字符串占大头的长文档上比标量快，下面几种已知更慢的情况也退回标量实现：
+ * JDK 21 以前（{@code VectorMask.toLong} 没有内联，每块都要分配）、短于 {@value #MIN_LENGTH} 字节的输入、
+ * 开头 {@value #PROBE} 字节里字符串外的非空白字节超过四分之一的文档（每个结构字符和标量都要逐个处理）
+ * <p>
+ * 与其他类分开编译，需要 --add-modules jdk.incubator.vector，见README
+ */
+public final class VectorJsonValidator {
+    /**
+     * 只在模块存在时才会加载 {@link VectorScanner}，否则引用向量类型会抛 NoClassDefFoundError
+     */
+    private static final boolean AVAILABLE = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+    /**
+     * 模块可用且JDK版本上向量实现不吃亏时才走向量实现
+     */
+    private static final boolean ENABLED = AVAILABLE && Runtime.version().feature() >= 21;
+    static final int MIN_LENGTH = 16 << 10;
+    static final int PROBE = 2048;
+
+    private final int maxDepth;
+    /**
+     * 配置里只限制了嵌套深度，向量扫描能给出与标量实现相同的结果
+     */
+    private final boolean vectorizable;
+    private final JsonValidator scalar;
+
+    public VectorJsonValidator() {
+        this(JsonValidatorConfig.DEFAULT);
+    }
+
+    /**
+     * @param maxDepth 对象和数组的最大嵌套深度，超过时校验失败
+     */
+    public VectorJsonValidator(int maxDepth) {
+        this(JsonValidatorConfig.builder().maxDepth(maxDepth).build());
+    }
+
+    /**
+     * @param config 除最大嵌套深度外还设置了其他限制时，所有输入都交给按这份配置构造的 {@link JsonValidator}
+     */
+    public VectorJsonValidator(JsonValidatorConfig config) {
+        this.scalar = new JsonValidator(config);
+        this.maxDepth = config.maxDepth();
+        this.vectorizable = config.limitsDepthOnly();
+    }
+
+    /**
+     * @return true-向量实现可用，false-所有调用都会退回标量实现。可用时仍会按上面的规则对部分输入退回标量实现
+     */
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    public boolean validate(String input) {
+        return scalar.validate(input);
+    }
+
+    /**
+     * 校验 buf[off, off + len) 中的UTF-8字节
+     *
+     * @return true-合法 ，false-非法
+     */
+    public boolean validate(byte[] buf, int off, int len) {
+        if (!ENABLED || !vectorizable || len < MIN_LENGTH) return scalar.validate(buf, off, len);
+        Objects.checkFromIndexSize(off, len, buf.length);
+        if (dense(buf, off, off + PROBE)) return scalar.validate(buf, off, len);
+        return VectorScanner.validate(buf, off, off + len, maxDepth);
+    }
+
+    /**
+     * 校验 position 到 limit 之间的字节，不会改变buffer的position
+     *
+     * @return true-合法 ，false-非法
+     */
+    public boolean validate(ByteBuffer buf) {
+        if (buf.hasArray()) {
+            return validate(buf.array(), buf.arrayOffset() + buf.position(), buf.remaining());
+        }
+        return scalar.validate(buf);
+    }
+
+    /**
+     * [i, end) 中字符串外的非空白字节是否超过四分之一，这样的文档结构字符和标量密集，向量实现比标量慢。
+     * 实测字符串为主的文档在十分之一左右，对象数组、数字数组和深层嵌套在三分之一以上
+     */
+    static boolean dense(byte[] b, int i, int end) {
+        int length = end - i;
+        int count = 0;
+        boolean string = false;
+        for (; i < end; i++) {
+            int c = b[i];
+            if (string) {
+                if (c == '\\') i++;
+                else if (c == '"') string = false;
+            } else if (c == '"') {
+                string = true;
+                count++;
+            } else if (!JsonChars.isWhitespace(c & 0xFF)) {
+                count++;
+            }
+        }
+        return count > length >>> 2;
+    }
+}
@@ -0,0 +1,284 @@
+import java.util.Arrays;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * @describe 基于 jdk.incubator.vector 的json校验，每次把64字节分成若干个向量一起分类，
+ * 得到引号、反斜杠、结构字符、空白和非ASCII字节的位图，再根据位图算出字符串区间和标量起点，
+ * 最后只在这些位置上按语法走一遍。只应由 {@link VectorJsonValidator} 在确认模块可用后调用
+ */
+final class VectorScanner {
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+    private static final long EVEN_BITS = 0x5555555555555555L;
+
+    private static final int VALUE = 0;         // 期望一个值
+    private static final int ARRAY_FIRST = 1;   // '[' 之后，期望值或 ']'
+    private static final int OBJECT_FIRST = 2;  // '{' 之后，期望键或 '}'
+    private static final int KEY = 3;           // 对象里 ',' 之后，期望键
+    private static final int COLON = 4;         // 键之后，期望 ':'
+    private static final int AFTER_VALUE = 5;   // 值之后，期望 ',' 或结束符
+
+    private VectorScanner() {
+    }
+
+    static boolean validate(byte[] b, int off, int end, int maxDepth) {
+        final int lanes = SPECIES.length();
+        // 跨块携带的状态：上一块末尾是否有未配对的反斜杠、是否在字符串里、最后一个字节是否属于标量
+        long prevEscaped = 0;
+        long prevInString = 0;
+        long prevScalar = 0;
+
+        int state = VALUE;
+        long[] stack = new long[1];
+        int depth = 0;
+        boolean key = false;
+        // 当前字符串的起点，以及字符串里是否出现过转义或非ASCII字节
+        int stringStart = -1;
+        boolean dirty = false;
+
+        for (int base = off; base < end; base += 64) {
+            long quote = 0, backslash = 0, ws = 0, op = 0, unusual = 0;
+            for (int k = 0; k < 64; k += lanes) {
+                int p = base + k;
+                if (p >= end) break;
+                ByteVector v = p + lanes <= end
+                        ? ByteVector.fromArray(SPECIES, b, p)
+                        : ByteVector.fromArray(SPECIES, b, p, SPECIES.indexInRange(p, end));
+                quote |= v.eq((byte) '"').toLong() << k;
+                backslash |= v.eq((byte) '\\').toLong() << k;
+                // 与 JsonChars.WHITESPACE 一致：空格、\t、\n、\r
+                ws |= v.eq((byte) ' ').or(v.eq((byte) '\t')).or(v.eq((byte) '\n')).or(v.eq((byte) '\r'))
+                        .toLong() << k;
+                op |= v.eq((byte) '{').or(v.eq((byte) '}')).or(v.eq((byte) '[')).or(v.eq((byte) ']'))
+                        .or(v.eq((byte) ',')).or(v.eq((byte) ':')).toLong() << k;
+                // 有符号比较：小于0x20的控制字符和不小于0x80的非ASCII字节
+                unusual |= v.compare(VectorOperators.LT, (byte) 0x20).toLong() << k;
+            }
+            int n = end - base;
+            if (n < 64) {
+                // 超出末尾的部分当作空白
+                ws |= -1L << n;
+            }
+
+            // 被奇数个连续反斜杠转义的字符
+            long bs = backslash & ~prevEscaped;
+            long followsEscape = bs << 1 | prevEscaped;
+            long oddStarts = bs & ~EVEN_BITS & ~followsEscape;
+            long sequencesOnEven = oddStarts + bs;
+            prevEscaped = Long.compareUnsigned(sequencesOnEven, oddStarts) < 0 ? 1 : 0;
+            long escaped = (EVEN_BITS ^ sequencesOnEven << 1) & followsEscape;
+
+            quote &= ~escaped;
+            // 从开引号（含）到闭引号（不含）的区间
+            long inString = prefixXor(quote) ^ prevInString;
+            prevInString = inString >> 63;
+            long scalar = ~(ws | op | quote | inString);
+            long scalarStart = scalar & ~(scalar << 1 | prevScalar);
+            prevScalar = scalar >>> 63;
+            long special = backslash | unusual;
+
+            long events = op & ~inString | quote | scalarStart;
+            int last = 0;
+            while (events != 0) {
+                int bit = Long.numberOfTrailingZeros(events);
+                events &= events - 1;
+                int pos = base + bit;
+
+                if (stringStart >= 0) {
+                    // 字符串里唯一的事件就是闭引号
+                    dirty |= (special & range(last, bit)) != 0;
+                    if (dirty && !content(b, stringStart + 1, pos)) return false;
+                    stringStart = -1;
+                    state = key ? COLON : AFTER_VALUE;
+                    continue;
+                }
+                if (state == AFTER_VALUE && depth == 0) return false;
+
+                int c = b[pos];
+                switch (c) {
+                    case '{':
+                    case '[':
+                        if (state != VALUE && state != ARRAY_FIRST) return false;
+                        if (depth == maxDepth) return false;
+                        if (depth >>> 6 == stack.length) stack = Arrays.copyOf(stack, stack.length << 1);
+                        if (c == '{') stack[depth >>> 6] |= 1L << depth;
+                        else stack[depth >>> 6] &= ~(1L << depth);
+                        depth++;
+                        state = c == '{' ? OBJECT_FIRST : ARRAY_FIRST;
+                        break;
+                    case '}':
+                    case ']':
+                        if (state != (c == '}' ? OBJECT_FIRST : ARRAY_FIRST)
+                                && !(state == AFTER_VALUE && isObject(stack, depth) == (c == '}'))) {
+                            return false;
+                        }
+                        depth--;
+                        state = AFTER_VALUE;
+                        break;
+                    case ',':
+                        if (state != AFTER_VALUE) return false;
+                        state = isObject(stack, depth) ? KEY : VALUE;
+                        break;
+                    case ':':
+                        if (state != COLON) return false;
+                        state = VALUE;
+                        break;
+                    case '"':
+                        if (state == VALUE || state == ARRAY_FIRST) key = false;
+                        else if (state == OBJECT_FIRST || state == KEY) key = true;
+                        else return false;
+                        stringStart = pos;
+                        dirty = false;
+                        last = bit + 1;
+                        break;
+                    default:
+                        if (state != VALUE && state != ARRAY_FIRST) return false;
+                        int next = scalar(b, pos, end);
+                        if (next < 0) return false;
+                        if (next < end) {
+                            int d = b[next] & 0xFF;
+                            if (!JsonChars.isWhitespace(d) && d != '"' && "{}[],:".indexOf(d) < 0) return false;
+                        }
+                        state = AFTER_VALUE;
+                }
+            }
+            if (stringStart >= 0) {
+                dirty |= (special & range(last, 64)) != 0;
+            }
+        }
+
+        if (stringStart >= 0 || prevInString != 0) return false;
+        return depth == 0 && (state == AFTER_VALUE || state == VALUE);
+    }
+
+    /**
+     * 前缀异或，每一位等于它及其右边所有位的异或
+     */
+    private static long prefixXor(long x) {
+        x ^= x << 1;
+        x ^= x << 2;
+        x ^= x << 4;
+        x ^= x << 8;
+        x ^= x << 16;
+        x ^= x << 32;
+        return x;
+    }
+
+    /**
+     * 第 from 位（含）到第 to 位（不含）全为1的掩码
+     */
+    private static long range(int from, int to) {
+        if (from >= to) return 0;
+        return (to == 64 ? -1L : (1L << to) - 1) & -1L << from;
+    }
+
+    private static boolean isObject(long[] stack, int depth) {
+        int top = depth - 1;
+        return (stack[top >>> 6] & 1L << top) != 0;
+    }
+
+    /**
+     * 逐字节检查字符串内容里的转义序列、控制字符和UTF-8序列，end 是闭引号的下标
+     */
+    private static boolean content(byte[] b, int i, int end) {
+        while (i < end) {
+            int c = b[i] & 0xFF;
+            if (c == '\\') {
+                c = b[++i] & 0xFF;
+                if (c == 'u') {
+                    if (i + 4 >= end) return false;
+                    if (JsonChars.hex4(b[i + 1] & 0xFF, b[i + 2] & 0xFF, b[i + 3] & 0xFF, b[i + 4] & 0xFF) < 0) {
+                        return false;
+                    }
+                    i += 5;
+                } else if (JsonChars.is(c, JsonChars.ESCAPE)) {
+                    i++;
+                } else {
+                    return false;
+                }
+            } else if (c < 0x20) {
+                return false;
+            } else if (c >= 0x80) {
+                int count, min = 0x80, max = 0xBF;
+                if (c >= 0xC2 && c <= 0xDF) {
+                    count = 1;
+                } else if (c >= 0xE0 && c <= 0xEF) {
+                    count = 2;
+                    if (c == 0xE0) min = 0xA0;
+                    else if (c == 0xED) max = 0x9F;
+                } else if (c >= 0xF0 && c <= 0xF4) {
+                    count = 3;
+                    if (c == 0xF0) min = 0x90;
+                    else if (c == 0xF4) max = 0x8F;
+                } else {
+                    return false;
+                }
+                if (i + count >= end) return false;
+                int d = b[++i] & 0xFF;
+                if (d < min || d > max) return false;
+                while (--count > 0) {
+                    d = b[++i] & 0xFF;
+                    if (d < 0x80 || d > 0xBF) return false;
+                }
+                i++;
+            } else {
+                i++;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 校验从i开始的数字或字面量，返回其后第一个字节的下标，非法时返回-1
+     */
+    private static int scalar(byte[] b, int i, int end) {
+        switch (b[i]) {
+            case 't':
+                return literal(b, i, end, "true");
+            case 'f':
+                return literal(b, i, end, "false");
+            case 'n':
+                return literal(b, i, end, "null");
+            default:
+                return number(b, i, end);
+        }
+    }
+
+    private static int literal(byte[] b, int i, int end, String text) {
+        int n = text.length();
+        if (end - i < n) return -1;
+        for (int k = 1; k < n; k++) {
+            if (b[i + k] != text.charAt(k)) return -1;
+        }
+        return i + n;
+    }
+
+    private static int number(byte[] b, int i, int end) {
+        int c = b[i];
+        if (c == '-') c = ++i < end ? b[i] : -1;
+        if (c == '0') {
+            i++;
+        } else if (c >= '1' && c <= '9') {
+            i = digits(b, i, end);
+        } else {
+            return -1;
+        }
+        if (i < end && b[i] == '.') {
+            int start = ++i;
+            if ((i = digits(b, i, end)) == start) return -1;
+        }
+        if (i < end && (b[i] == 'e' || b[i] == 'E')) {
+            if (++i < end && (b[i] == '+' || b[i] == '-')) i++;
+            int start = i;
+            if ((i = digits(b, i, end)) == start) return -1;
+        }
+        return i;
+    }
+
+    private static int digits(byte[] b, int i, int end) {
+        while (i < end && b[i] >= '0' && b[i] <= '9') i++;
+        return i;
+    }
+}